@@ -57,7 +57,7 @@ public interface JsonRpcClient {
   String HEADER_CONTENT_TYPE = "Content-Type";
   String APPLICATION_JSON = "application/json";
 
-  ObjectMapper objectMapper = ObjectMapperFactory.create();
+  ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
   int SERVICE_UNAVAILABLE_STATUS = 503;
   Duration RETRY_INTERVAL = Duration.ofSeconds(1);
 
@@ -130,7 +130,7 @@ public class XrplClient {
   @VisibleForTesting
   XrplClient(final JsonRpcClient jsonRpcClient) {
     this.jsonRpcClient = Objects.requireNonNull(jsonRpcClient);
-    this.objectMapper = ObjectMapperFactory.create();
+    this.objectMapper = ObjectMapperFactory.getObjectMapper();
     this.binaryCodec = XrplBinaryCodec.getInstance();
   }
 
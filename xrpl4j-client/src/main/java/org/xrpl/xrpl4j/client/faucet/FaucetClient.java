@@ -55,7 +55,7 @@ public interface FaucetClient {
   static FaucetClient construct(final HttpUrl faucetUrl) {
     Objects.requireNonNull(faucetUrl);
 
-    final ObjectMapper objectMapper = ObjectMapperFactory.create();
+    final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
     return Feign.builder()
       .encoder(new JacksonEncoder(objectMapper))
       .decode404()
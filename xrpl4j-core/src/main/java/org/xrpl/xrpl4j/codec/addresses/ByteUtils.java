@@ -20,7 +20,6 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
-import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.primitives.UnsignedLong;
@@ -28,7 +27,6 @@ import com.google.common.primitives.UnsignedLong;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Utilities to work with bytes in an XRPL context.
@@ -87,10 +85,10 @@ public class ByteUtils {
    * @return A {@link List} of {@link UnsignedByte}s containing the parsed hex.
    */
   public static List<UnsignedByte> parse(String hex) {
-    String padded = padded(hex);
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < padded.length(); i += 2) {
-      result.add(UnsignedByte.of(padded.substring(i, i + 2)));
+    byte[] bytes = HexUtils.decode(padded(hex));
+    List<UnsignedByte> result = new ArrayList<>(bytes.length);
+    for (byte value : bytes) {
+      result.add(UnsignedByte.of(value));
     }
     return result;
   }
@@ -120,7 +118,11 @@ public class ByteUtils {
    * @return A hexadecimal {@link String}.
    */
   public static String toHex(List<UnsignedByte> segments) {
-    return Joiner.on("").join(segments.stream().map(UnsignedByte::hexValue).collect(Collectors.toList()));
+    byte[] bytes = new byte[segments.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) segments.get(i).asInt();
+    }
+    return HexUtils.encode(bytes);
   }
 
   /**
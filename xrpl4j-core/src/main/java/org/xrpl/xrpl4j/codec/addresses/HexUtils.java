@@ -0,0 +1,221 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Table-driven utilities for converting between bytes and hexadecimal characters.
+ *
+ * <p>Encoding always produces upper-case hex, which is the canonical form used by the XRPL. Decoding accepts upper-
+ * and lower-case digits (or a mix of both) without first copying or case-converting the input.</p>
+ */
+public class HexUtils {
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * The value of each ASCII hex digit, indexed by character, or -1 for characters that are not hex digits.
+   */
+  private static final byte[] DIGIT_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(DIGIT_VALUES, (byte) -1);
+    for (int i = 0; i < 10; i++) {
+      DIGIT_VALUES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      DIGIT_VALUES['A' + i] = (byte) (10 + i);
+      DIGIT_VALUES['a' + i] = (byte) (10 + i);
+    }
+  }
+
+  /**
+   * Encode {@code bytes} as an upper-case hexadecimal {@link String}.
+   *
+   * @param bytes The bytes to encode.
+   *
+   * @return A hexadecimal {@link String} with two characters per byte.
+   */
+  public static String encode(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return encode(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Encode {@code length} bytes of {@code bytes}, starting at {@code offset}, as an upper-case hexadecimal
+   * {@link String}.
+   *
+   * @param bytes  The bytes to encode.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   *
+   * @return A hexadecimal {@link String} with two characters per byte.
+   */
+  public static String encode(byte[] bytes, int offset, int length) {
+    checkRange(bytes, offset, length);
+    char[] chars = new char[length * 2];
+    encode(bytes, offset, length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Encode {@code length} bytes of {@code bytes}, starting at {@code offset}, as upper-case hexadecimal characters
+   * appended to {@code destination}.
+   *
+   * @param bytes       The bytes to encode.
+   * @param offset      The index of the first byte to encode.
+   * @param length      The number of bytes to encode.
+   * @param destination A {@link StringBuilder} to append the encoded characters to.
+   *
+   * @return {@code destination}, for call chaining convenience.
+   */
+  public static StringBuilder encode(byte[] bytes, int offset, int length, StringBuilder destination) {
+    Objects.requireNonNull(destination);
+    checkRange(bytes, offset, length);
+    destination.ensureCapacity(destination.length() + length * 2);
+    for (int i = offset; i < offset + length; i++) {
+      destination.append(HEX_DIGITS[(bytes[i] >> 4) & 0xF]).append(HEX_DIGITS[bytes[i] & 0xF]);
+    }
+    return destination;
+  }
+
+  /**
+   * Encode {@code length} bytes of {@code bytes}, starting at {@code offset}, as upper-case hexadecimal characters
+   * written into {@code destination} starting at {@code destinationOffset}.
+   *
+   * @param bytes             The bytes to encode.
+   * @param offset            The index of the first byte to encode.
+   * @param length            The number of bytes to encode.
+   * @param destination       A char array with room for {@code length * 2} characters at {@code destinationOffset}.
+   * @param destinationOffset The index in {@code destination} to write the first character to.
+   *
+   * @return The index in {@code destination} just after the last character written.
+   */
+  public static int encode(byte[] bytes, int offset, int length, char[] destination, int destinationOffset) {
+    Objects.requireNonNull(destination);
+    checkRange(bytes, offset, length);
+    if (destinationOffset < 0 || destinationOffset + length * 2 > destination.length) {
+      throw new IndexOutOfBoundsException("destination is too small for " + length + " encoded bytes");
+    }
+    int position = destinationOffset;
+    for (int i = offset; i < offset + length; i++) {
+      destination[position++] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+      destination[position++] = HEX_DIGITS[bytes[i] & 0xF];
+    }
+    return position;
+  }
+
+  /**
+   * Decode a hexadecimal {@link CharSequence}, in upper-, lower- or mixed case, to bytes.
+   *
+   * @param hex A {@link CharSequence} containing an even number of hexadecimal characters.
+   *
+   * @return A byte array with one byte per two characters of {@code hex}.
+   * @throws IllegalArgumentException if {@code hex} has an odd length or contains a non-hexadecimal character.
+   */
+  public static byte[] decode(CharSequence hex) {
+    Objects.requireNonNull(hex);
+    byte[] bytes = new byte[checkEvenLength(hex.length()) / 2];
+    decode(hex, 0, hex.length(), bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Decode the hexadecimal characters of {@code hex} between {@code start} (inclusive) and {@code end} (exclusive),
+   * in upper-, lower- or mixed case, into {@code destination} starting at {@code destinationOffset}.
+   *
+   * @param hex               A {@link CharSequence} containing hexadecimal characters.
+   * @param start             The index of the first character to decode.
+   * @param end               The index after the last character to decode.
+   * @param destination       A byte array with room for {@code (end - start) / 2} bytes at {@code destinationOffset}.
+   * @param destinationOffset The index in {@code destination} to write the first byte to.
+   *
+   * @return The index in {@code destination} just after the last byte written.
+   * @throws IllegalArgumentException if the range has an odd length or contains a non-hexadecimal character.
+   */
+  public static int decode(CharSequence hex, int start, int end, byte[] destination, int destinationOffset) {
+    Objects.requireNonNull(hex);
+    Objects.requireNonNull(destination);
+    if (start < 0 || end > hex.length() || start > end) {
+      throw new IndexOutOfBoundsException(String.format("[%s, %s) out of bounds for length %s", start, end,
+        hex.length()));
+    }
+    int length = checkEvenLength(end - start) / 2;
+    if (destinationOffset < 0 || destinationOffset + length > destination.length) {
+      throw new IndexOutOfBoundsException("destination is too small for " + length + " decoded bytes");
+    }
+    int position = destinationOffset;
+    for (int i = start; i < end; i += 2) {
+      destination[position++] = (byte) (digit(hex.charAt(i)) << 4 | digit(hex.charAt(i + 1)));
+    }
+    return position;
+  }
+
+  /**
+   * Decode {@code length} hexadecimal characters of {@code hex}, starting at {@code offset}, in upper-, lower- or
+   * mixed case, to bytes.
+   *
+   * @param hex    A char array containing hexadecimal characters.
+   * @param offset The index of the first character to decode.
+   * @param length The number of characters to decode, which must be even.
+   *
+   * @return A byte array with one byte per two decoded characters.
+   * @throws IllegalArgumentException if {@code length} is odd or the range contains a non-hexadecimal character.
+   */
+  public static byte[] decode(char[] hex, int offset, int length) {
+    Objects.requireNonNull(hex);
+    if (offset < 0 || length < 0 || offset + length > hex.length) {
+      throw new IndexOutOfBoundsException(String.format("offset %s and length %s out of bounds for length %s",
+        offset, length, hex.length));
+    }
+    byte[] bytes = new byte[checkEvenLength(length) / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (digit(hex[offset + 2 * i]) << 4 | digit(hex[offset + 2 * i + 1]));
+    }
+    return bytes;
+  }
+
+  private static int digit(char character) {
+    int value = character < DIGIT_VALUES.length ? DIGIT_VALUES[character] : -1;
+    if (value < 0) {
+      throw new IllegalArgumentException("Unrecognized character: " + character);
+    }
+    return value;
+  }
+
+  private static int checkEvenLength(int length) {
+    if (length % 2 != 0) {
+      throw new IllegalArgumentException("Invalid input length " + length);
+    }
+    return length;
+  }
+
+  private static void checkRange(byte[] bytes, int offset, int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(String.format("offset %s and length %s out of bounds for length %s",
+        offset, length, bytes.length));
+    }
+  }
+
+}
@@ -21,7 +21,6 @@ package org.xrpl.xrpl4j.codec.addresses;
  */
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -169,7 +168,7 @@ public class UnsignedByte implements Destroyable {
    * @return The hex {@link String} value of this {@link UnsignedByte}.
    */
   public String hexValue() {
-    return BaseEncoding.base16().encode(new byte[] {(byte) asInt()});
+    return HexUtils.encode(new byte[] {(byte) asInt()});
   }
 
   @Override
@@ -20,10 +20,11 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import javax.security.auth.Destroyable;
 
@@ -31,16 +32,44 @@ import javax.security.auth.Destroyable;
  * <p>Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations on
  * arrays on unsigned bytes.</p>
  *
+ * <p>Instances are backed by a primitive {@code byte[]} that grows (by doubling its capacity) as bytes are appended.
+ * Slices returned by {@link #slice(int, int)} are views that share the backing array of the instance they were taken
+ * from until they are themselves appended to, at which point they copy their bytes into a buffer of their own.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.</p>
  */
 public class UnsignedByteArray implements Destroyable {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final int MIN_CAPACITY = 16;
+
+  private byte[] bytes;
+  private int offset;
+  private int length;
+  // `true` if `bytes` is shared with another UnsignedByteArray (i.e., this instance is a slice).
+  private boolean isView;
+  // `true` if a slice of this instance may still be reading `bytes`, so `clear()` must not reuse it.
+  private boolean hasViews;
   private boolean destroyed;
 
+  /**
+   * Constructs an {@link UnsignedByteArray} containing a copy of the supplied {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}s.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.bytes = new byte[unsignedBytes.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = unsignedBytes.get(i).asByte();
+    }
+    this.length = bytes.length;
+  }
+
+  private UnsignedByteArray(final byte[] bytes, final int offset, final int length, final boolean isView) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.isView = isView;
   }
 
   /**
@@ -48,16 +77,11 @@ public class UnsignedByteArray implements Destroyable {
    *
    * @param bytes The byte array to create an {@link UnsignedByteArray} from.
    *
-   * @return An {@link UnsignedByteArray} containing {@code bytes}.
+   * @return An {@link UnsignedByteArray} containing a copy of {@code bytes}.
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
-
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
-    }
-    return new UnsignedByteArray(unsignedBytes);
+    return new UnsignedByteArray(Arrays.copyOf(bytes, bytes.length), 0, bytes.length, false);
   }
 
   /**
@@ -69,10 +93,46 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[rest.length + 1];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
+  }
+
+  /**
+   * Creates an {@link UnsignedByteArray} that takes ownership of {@code bytes} without copying them. The caller must
+   * not modify or retain {@code bytes} after calling this method; use {@link #of(byte[])} when it might.
+   *
+   * @param bytes A byte array that is not used elsewhere, such as one that was just allocated by the caller.
+   *
+   * @return An {@link UnsignedByteArray} backed by {@code bytes}.
+   */
+  public static UnsignedByteArray wrap(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
+  }
+
+  /**
+   * Creates an {@link UnsignedByteArray} that is a view of {@code length} bytes of {@code bytes}, starting at
+   * {@code offset}, without copying them. Like a {@link #slice(int, int)}, the view copies its bytes into a buffer of
+   * its own before it is appended to, but reads whatever {@code bytes} holds until then.
+   *
+   * @param bytes  A byte array.
+   * @param offset The index of the first byte of the view.
+   * @param length The number of bytes in the view.
+   *
+   * @return An {@link UnsignedByteArray} that shares {@code bytes}.
+   */
+  public static UnsignedByteArray wrap(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        String.format("Invalid range [%s, %s) of array with length %s", offset, offset + length, bytes.length)
+      );
+    }
+    return new UnsignedByteArray(bytes, offset, length, true);
   }
 
   /**
@@ -81,7 +141,19 @@ public class UnsignedByteArray implements Destroyable {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return new UnsignedByteArray(new byte[0], 0, 0, false);
+  }
+
+  /**
+   * Creates an empty {@link UnsignedByteArray} that can hold {@code capacity} bytes before its backing array needs to
+   * grow.
+   *
+   * @param capacity The initial capacity of the backing array.
+   *
+   * @return An empty {@link UnsignedByteArray}.
+   */
+  public static UnsignedByteArray withCapacity(int capacity) {
+    return new UnsignedByteArray(new byte[capacity], 0, 0, false);
   }
 
   /**
@@ -92,7 +164,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], 0, size, false);
   }
 
   /**
@@ -104,8 +176,8 @@ public class UnsignedByteArray implements Destroyable {
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = HexUtils.decode(ByteUtils.padded(hex));
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   protected static List<UnsignedByte> fill(int amount) {
@@ -117,27 +189,65 @@ public class UnsignedByteArray implements Destroyable {
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Get a {@link List} view of the {@link UnsignedByte}s in this {@link UnsignedByteArray}. Elements of the returned
+   * list are materialized on access, and {@link List#set(int, Object)} writes through to this array.
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @return A {@link List} of {@link UnsignedByte}s.
    */
   public List<UnsignedByte> getUnsignedBytes() {
-    return unsignedBytes;
+    return new AbstractList<UnsignedByte>() {
+      @Override
+      public UnsignedByte get(int index) {
+        return UnsignedByteArray.this.get(index);
+      }
+
+      @Override
+      public UnsignedByte set(int index, UnsignedByte element) {
+        UnsignedByte previous = UnsignedByteArray.this.get(index);
+        UnsignedByteArray.this.set(index, element);
+        return previous;
+      }
+
+      @Override
+      public int size() {
+        return length;
+      }
+    };
   }
 
   /**
    * Converts this {@link UnsignedByteArray} to a byte array.
    *
-   * @return This {@link UnsignedByteArray} as a byte array.
+   * @return A copy of the bytes in this {@link UnsignedByteArray}.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
+    return Arrays.copyOfRange(bytes, offset, offset + length);
+  }
 
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
+  /**
+   * Passes the bytes of this array to {@code sink} as a single range of its backing array, without copying them, e.g.
+   * {@code bytes.writeTo(messageDigest::update)}. The sink must neither modify nor retain the array it is given.
+   *
+   * @param sink A {@link ByteSink} to write the bytes of this {@link UnsignedByteArray} to.
+   */
+  public void writeTo(ByteSink sink) {
+    Objects.requireNonNull(sink);
+    sink.write(bytes, offset, length);
+  }
 
-    return bytes;
+  /**
+   * Passes the bytes of this array to {@code function} as a single range of its backing array, without copying them,
+   * and returns its result, e.g. {@code bytes.read(BinaryParser::new)}. The function must not modify the array, and
+   * whatever it returns must only read the array while this {@link UnsignedByteArray} is not modified.
+   *
+   * @param function A {@link ByteRangeFunction} to apply to the bytes of this {@link UnsignedByteArray}.
+   * @param <R>      The type of result.
+   *
+   * @return The result of {@code function}.
+   */
+  public <R> R read(ByteRangeFunction<R> function) {
+    Objects.requireNonNull(function);
+    return function.apply(bytes, offset, length);
   }
 
   /**
@@ -146,7 +256,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    return HexUtils.encode(bytes, offset, length);
   }
 
   /**
@@ -155,7 +265,25 @@ public class UnsignedByteArray implements Destroyable {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
+  }
+
+  /**
+   * Removes all bytes from this {@link UnsignedByteArray}, so that the same instance can be reused as an output buffer.
+   * The backing array is kept, and so is not reallocated, unless a {@link #slice(int, int)} of this instance has been
+   * taken since it was last cleared; in that case a fresh backing array is allocated so that the bytes seen by those
+   * slices are not overwritten by later appends. Note: this method mutates the instance.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray clear() {
+    if (hasViews) {
+      bytes = new byte[Math.max(MIN_CAPACITY, bytes.length - offset)];
+      offset = 0;
+      hasViews = false;
+    }
+    length = 0;
+    return this;
   }
 
   /**
@@ -166,7 +294,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    return UnsignedByte.of(bytes[offset + checkIndex(index)]);
   }
 
   /**
@@ -177,7 +305,9 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    ensureCapacity(length + 1);
+    bytes[offset + length] = unsignedByte.asByte();
+    length++;
     return this;
   }
 
@@ -190,7 +320,36 @@ public class UnsignedByteArray implements Destroyable {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
+    return append(array.bytes, array.offset, array.length);
+  }
+
+  /**
+   * Appends the given bytes to the end of this array. Note: this method mutates the instance and returns the same
+   * instance (mainly for call chaining convenience).
+   *
+   * @param source A byte array to append to this {@link UnsignedByteArray}.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] source) {
+    return append(source, 0, source.length);
+  }
+
+  /**
+   * Appends {@code count} bytes of {@code source}, starting at {@code sourceOffset}, to the end of this array. Note:
+   * this method mutates the instance and returns the same instance (mainly for call chaining convenience).
+   *
+   * @param source       A byte array to copy bytes from.
+   * @param sourceOffset The index of the first byte in {@code source} to append.
+   * @param count        The number of bytes to append.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] source, int sourceOffset, int count) {
+    Objects.requireNonNull(source);
+    ensureCapacity(length + count);
+    System.arraycopy(source, sourceOffset, bytes, offset + length, count);
+    length += count;
     return this;
   }
 
@@ -201,11 +360,12 @@ public class UnsignedByteArray implements Destroyable {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    bytes[offset + checkIndex(index)] = value.asByte();
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Returns a slice of the underlying byte array from the given start to the end index (exclusive). The returned
+   * {@link UnsignedByteArray} is a view over the same backing array, so no bytes are copied.
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
@@ -213,7 +373,37 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    if (startIndex < 0 || endIndex > length || startIndex > endIndex) {
+      throw new IndexOutOfBoundsException(
+        String.format("Invalid slice [%s, %s) of array with length %s", startIndex, endIndex, length)
+      );
+    }
+    hasViews = true;
+    return new UnsignedByteArray(bytes, offset + startIndex, endIndex - startIndex, true);
+  }
+
+  /**
+   * Grows the backing array, if necessary, so that it can hold at least {@code minLength} bytes. Views always copy
+   * their bytes into a new array so that appending never writes into an array shared with another instance.
+   */
+  private void ensureCapacity(int minLength) {
+    if (!isView && minLength <= bytes.length - offset) {
+      return;
+    }
+    int newCapacity = Math.max(Math.max(minLength, MIN_CAPACITY), length * 2);
+    byte[] newBytes = new byte[newCapacity];
+    System.arraycopy(bytes, offset, newBytes, 0, length);
+    this.bytes = newBytes;
+    this.offset = 0;
+    this.isView = false;
+    this.hasViews = false;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+    }
+    return index;
   }
 
   @Override
@@ -225,25 +415,42 @@ public class UnsignedByteArray implements Destroyable {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (this.length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (this.bytes[this.offset + i] != that.bytes[that.offset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    // Equivalent to `Objects.hash(getUnsignedBytes())`, without materializing any UnsignedByte instances.
+    int listHashCode = 1;
+    for (int i = 0; i < length; i++) {
+      listHashCode = 31 * listHashCode + (31 + (bytes[offset + i] & 0xFF));
+    }
+    return 31 + listHashCode;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
 
   @Override
   public void destroy() {
-    this.unsignedBytes.forEach(UnsignedByte::destroy);
-    this.unsignedBytes.clear();
+    if (isView) {
+      Arrays.fill(this.bytes, offset, offset + length, (byte) 0);
+    } else {
+      Arrays.fill(this.bytes, (byte) 0);
+    }
+    this.length = 0;
     this.destroyed = true;
   }
 
@@ -251,4 +458,40 @@ public class UnsignedByteArray implements Destroyable {
   public boolean isDestroyed() {
     return this.destroyed;
   }
+
+  /**
+   * A destination for a range of bytes, such as {@code MessageDigest#update(byte[], int, int)}.
+   */
+  @FunctionalInterface
+  public interface ByteSink {
+
+    /**
+     * Writes {@code length} bytes of {@code source}, starting at {@code offset}.
+     *
+     * @param source A byte array to read bytes from.
+     * @param offset The index of the first byte in {@code source} to write.
+     * @param length The number of bytes to write.
+     */
+    void write(byte[] source, int offset, int length);
+  }
+
+  /**
+   * A function of a range of bytes, such as {@code BinaryParser#BinaryParser(byte[], int, int)}.
+   *
+   * @param <R> The type of result.
+   */
+  @FunctionalInterface
+  public interface ByteRangeFunction<R> {
+
+    /**
+     * Applies this function to {@code length} bytes of {@code source}, starting at {@code offset}.
+     *
+     * @param source A byte array to read bytes from.
+     * @param offset The index of the first byte in {@code source} to read.
+     * @param length The number of bytes to read.
+     *
+     * @return The result of this function.
+     */
+    R apply(byte[] source, int offset, int length);
+  }
 }
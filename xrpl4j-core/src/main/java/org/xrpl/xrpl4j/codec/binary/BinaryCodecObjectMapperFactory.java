@@ -26,13 +26,19 @@ import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
-public class BinaryCodecObjectMapperFactory {
+/**
+ * Provides the shared {@link ObjectMapper} used by the binary codec. Jackson mappers are expensive to build but
+ * thread-safe once configured, so the codec never constructs one per call; it uses the instances provided here.
+ */
+public final class BinaryCodecObjectMapperFactory {
 
-  private static ObjectMapper objectMapper = JsonMapper.builder()
+  private static final ObjectMapper objectMapper = JsonMapper.builder()
     .addModule(new Jdk8Module())
     .addModule(new GuavaModule())
     .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
@@ -42,8 +48,38 @@ public class BinaryCodecObjectMapperFactory {
     .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
     .build();
 
+  private static final ObjectReader objectReader = objectMapper.reader();
+
+  private static final ObjectWriter objectWriter = objectMapper.writer();
+
+  private BinaryCodecObjectMapperFactory() {
+  }
+
+  /**
+   * Get the shared {@link ObjectMapper} used by the binary codec. The returned instance must not be reconfigured.
+   *
+   * @return An {@link ObjectMapper}.
+   */
   public static ObjectMapper getObjectMapper() {
     return objectMapper;
   }
 
+  /**
+   * Get a shared, immutable {@link ObjectReader} with the same configuration as {@link #getObjectMapper()}.
+   *
+   * @return An {@link ObjectReader}.
+   */
+  public static ObjectReader getObjectReader() {
+    return objectReader;
+  }
+
+  /**
+   * Get a shared, immutable {@link ObjectWriter} with the same configuration as {@link #getObjectMapper()}.
+   *
+   * @return An {@link ObjectWriter}.
+   */
+  public static ObjectWriter getObjectWriter() {
+    return objectWriter;
+  }
+
 }
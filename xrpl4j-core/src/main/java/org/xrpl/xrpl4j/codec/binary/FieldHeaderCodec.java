@@ -20,35 +20,39 @@ package org.xrpl.xrpl4j.codec.binary;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.Definitions;
-import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsProvider;
-import org.xrpl.xrpl4j.codec.binary.definitions.FieldInfo;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * A codec for instances of {@link FieldHeader}.
  */
 public class FieldHeaderCodec {
 
-  private static final FieldHeaderCodec INSTANCE = new FieldHeaderCodec(DefinitionsProvider.getInstance().get(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
+  private static final FieldHeaderCodec INSTANCE =
+    new FieldHeaderCodec(DefinitionsService.getInstance().getFieldInstances());
 
-  private final Definitions definitions;
-
-  private final Map<String, FieldInfo> fieldMetadataMap;
+  private final Map<String, FieldHeader> fieldHeaderMap;
 
   private final Map<FieldHeader, String> fieldIdNameMap;
 
-  private final Map<String, Integer> typeOrdinalMap;
+  /**
+   * Encoded header bytes for every field whose type code and field code fit in a field header, keyed by field name.
+   */
+  private final Map<String, byte[]> fieldHeaderBytesMap;
 
   /**
    * Required-args Constructor.
@@ -57,23 +61,24 @@ public class FieldHeaderCodec {
    * @param mapper      An {@link ObjectMapper}.
    */
   public FieldHeaderCodec(Definitions definitions, ObjectMapper mapper) {
-    this.definitions = definitions;
-    this.fieldMetadataMap = new HashMap<>();
-    this.fieldIdNameMap = new HashMap<>();
-    this.typeOrdinalMap = definitions.types();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        fieldMetadataMap.put(fieldName, metadata);
-        fieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
+    this(DefinitionsService.parseFieldInstances(definitions, mapper).values());
+  }
+
+  private FieldHeaderCodec(Collection<FieldInstance> fieldInstances) {
+    Map<String, FieldHeader> tempFieldHeaderMap = new HashMap<>();
+    Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
+    Map<String, byte[]> tempFieldHeaderBytesMap = new HashMap<>();
+    fieldInstances.forEach(fieldInstance -> {
+      FieldHeader fieldHeader = fieldInstance.header();
+      tempFieldHeaderMap.put(fieldInstance.name(), fieldHeader);
+      tempFieldIdNameMap.put(fieldHeader, fieldInstance.name());
+      if (isEncodable(fieldHeader)) {
+        tempFieldHeaderBytesMap.put(fieldInstance.name(), encodeToBytes(fieldHeader));
       }
     });
+    this.fieldHeaderMap = ImmutableMap.copyOf(tempFieldHeaderMap);
+    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldHeaderBytesMap = ImmutableMap.copyOf(tempFieldHeaderBytesMap);
   }
 
   public static FieldHeaderCodec getInstance() {
@@ -81,35 +86,54 @@ public class FieldHeaderCodec {
   }
 
   public String encode(String fieldName) {
-    return encode(getFieldId(fieldName));
+    byte[] headerBytes = fieldHeaderBytesMap.get(fieldName);
+    return headerBytes != null ? HexUtils.encode(headerBytes) : encode(getFieldId(fieldName));
+  }
+
+  /**
+   * Append the encoded header of the field named {@code fieldName} to {@code sink}. The header bytes of every field
+   * are computed once, when this codec is constructed, so this does not allocate.
+   *
+   * @param fieldName A {@link String} containing the name of the field whose header should be written.
+   * @param sink      An {@link UnsignedByteArray} to append the header bytes to.
+   */
+  public void encode(String fieldName, UnsignedByteArray sink) {
+    Objects.requireNonNull(sink);
+    byte[] headerBytes = fieldHeaderBytesMap.get(fieldName);
+    sink.append(headerBytes != null ? headerBytes : encodeToBytes(getFieldId(fieldName)));
   }
 
   protected String encode(FieldHeader fieldHeader) {
-    List<UnsignedByte> segments = new ArrayList<>();
+    return HexUtils.encode(encodeToBytes(fieldHeader));
+  }
+
+  private static boolean isEncodable(FieldHeader fieldHeader) {
+    return fieldHeader.typeCode() >= 0 && fieldHeader.typeCode() <= 255 &&
+      fieldHeader.fieldCode() >= 0 && fieldHeader.fieldCode() <= 255;
+  }
+
+  private static byte[] encodeToBytes(FieldHeader fieldHeader) {
     int typeCode = fieldHeader.typeCode();
     int fieldCode = fieldHeader.fieldCode();
+    Preconditions.checkArgument(typeCode >= 0 && typeCode <= 255, typeCode + " is not a valid type code");
+    Preconditions.checkArgument(fieldCode >= 0 && fieldCode <= 255, fieldCode + " is not a valid field code");
     if (typeCode < 16) {
       if (fieldCode < 16) {
         // single byte case where high bits contain type code, low bits contain field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) fieldCode));
+        return new byte[] {(byte) (typeCode << 4 | fieldCode)};
       } else {
         // 2 byte case where first byte contains type code + filler, second byte contains field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) 0));
-        segments.add(UnsignedByte.of(fieldCode));
+        return new byte[] {(byte) (typeCode << 4), (byte) fieldCode};
       }
     } else {
       if (fieldCode < 16) {
         // 2 byte case where first byte contains filler+field code, second byte contains typeCode
-        segments.add(UnsignedByte.of((byte) 0, (byte) fieldCode));
-        segments.add(UnsignedByte.of(typeCode));
+        return new byte[] {(byte) fieldCode, (byte) typeCode};
       } else {
         // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
-        segments.add(UnsignedByte.of((byte) 0));
-        segments.add(UnsignedByte.of(typeCode));
-        segments.add(UnsignedByte.of(fieldCode));
+        return new byte[] {0, (byte) typeCode, (byte) fieldCode};
       }
     }
-    return ByteUtils.toHex(segments);
   }
 
   public String decode(String hex) {
@@ -151,12 +175,9 @@ public class FieldHeaderCodec {
   }
 
   protected FieldHeader getFieldId(String fieldName) {
-    FieldInfo metadata = fieldMetadataMap.get(fieldName);
-    Preconditions.checkNotNull(metadata, fieldName + " is not a valid field name");
-    Integer typeCode = typeOrdinalMap.get(metadata.type());
-    Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-    return FieldHeader.builder().typeCode(typeCode).fieldCode(metadata.nth()).build();
+    FieldHeader fieldHeader = fieldHeaderMap.get(fieldName);
+    Preconditions.checkNotNull(fieldHeader, fieldName + " is not a valid field name");
+    return fieldHeader;
   }
 
 }
-
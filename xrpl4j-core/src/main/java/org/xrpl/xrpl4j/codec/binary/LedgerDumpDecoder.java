@@ -0,0 +1,269 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes the entries of a binary ledger dump, such as the {@code accountState} or {@code transactions} of a
+ * {@code ledger} response requested with {@code binary: true}, or the {@code state} of a {@code ledger_data}
+ * response. Each entry is an independently encoded STObject, so entries are decoded concurrently on a
+ * {@link ForkJoinPool} in chunks, while the returned {@link Stream} emits them one at a time in their original order.
+ *
+ * <p>Only a bounded window of chunks ahead of the consumer is decoded at any time, so dumps with millions of entries
+ * can be streamed without holding every decoded entry in memory. Closing the returned {@link Stream} cancels any
+ * chunks that have not yet been decoded.</p>
+ */
+public class LedgerDumpDecoder {
+
+  /**
+   * The number of entries decoded by a single task.
+   */
+  static final int CHUNK_SIZE = 256;
+
+  /**
+   * The number of chunks per thread of the pool that may be decoded ahead of the consumer.
+   */
+  private static final int CHUNKS_AHEAD_PER_THREAD = 2;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Construct a decoder that decodes entries on the common {@link ForkJoinPool}.
+   */
+  public LedgerDumpDecoder() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Construct a decoder that decodes entries on {@code pool}.
+   *
+   * @param pool The {@link ForkJoinPool} to decode entries on.
+   */
+  public LedgerDumpDecoder(final ForkJoinPool pool) {
+    this.pool = Objects.requireNonNull(pool);
+  }
+
+  /**
+   * Decodes a list of hex-encoded STObjects, such as ledger entries or transactions.
+   *
+   * @param hexEntries A {@link List} of hex-encoded STObjects.
+   *
+   * @return An ordered {@link Stream} of the decoded entries.
+   */
+  public Stream<JsonNode> decode(final List<String> hexEntries) {
+    Objects.requireNonNull(hexEntries);
+    return stream(hexEntries.size(), index -> decodeObject(new BinaryParser(hexEntries.get(index))));
+  }
+
+  /**
+   * Decodes the elements of a JSON array taken from a binary {@code ledger} or {@code ledger_data} response. Each
+   * element is either a hex-encoded STObject or an object whose {@code data} or {@code tx_blob} field holds one. In the
+   * latter case, the {@code index} and {@code hash} fields of the element are copied to the decoded entry, and a
+   * hex-encoded {@code meta} field is decoded to a {@code metaData} field.
+   *
+   * @param entries A {@link JsonNode} containing an array of binary ledger entries or transactions.
+   *
+   * @return An ordered {@link Stream} of the decoded entries.
+   */
+  public Stream<JsonNode> decode(final JsonNode entries) {
+    Objects.requireNonNull(entries);
+    if (!entries.isArray()) {
+      throw new IllegalArgumentException("JSON array of ledger entries required");
+    }
+    return stream(entries.size(), index -> decodeEntry(entries.get(index)));
+  }
+
+  /**
+   * Decodes a dump of consecutive STObjects, each preceded by its variable length prefix as in XRPL binary
+   * serialization. The dump is first split into entries by reading only their length prefixes, after which each entry
+   * is decoded independently.
+   *
+   * @param dump A byte array containing length-prefixed STObjects. The array is not copied, so it must not be modified
+   *             while the returned {@link Stream} is in use.
+   *
+   * @return An ordered {@link Stream} of the decoded entries.
+   */
+  public Stream<JsonNode> decodeLengthPrefixed(final byte[] dump) {
+    Objects.requireNonNull(dump);
+    final int[] offsets = splitLengthPrefixed(dump);
+    return stream(
+      offsets.length / 2,
+      index -> decodeObject(new BinaryParser(dump, offsets[2 * index], offsets[2 * index + 1]))
+    );
+  }
+
+  /**
+   * Finds the entries of a dump of length-prefixed STObjects.
+   *
+   * @return The offset and length of each entry, interleaved.
+   */
+  static int[] splitLengthPrefixed(final byte[] dump) {
+    BinaryParser parser = new BinaryParser(dump);
+    int[] offsets = new int[64];
+    int size = 0;
+    while (parser.hasMore()) {
+      int length = parser.readVariableLengthLength();
+      int offset = parser.position();
+      parser.skip(length);
+      if (size == offsets.length) {
+        offsets = Arrays.copyOf(offsets, size * 2);
+      }
+      offsets[size++] = offset;
+      offsets[size++] = length;
+    }
+    return Arrays.copyOf(offsets, size);
+  }
+
+  private static JsonNode decodeEntry(final JsonNode entry) {
+    if (entry.isTextual()) {
+      return decodeObject(new BinaryParser(entry.asText()));
+    }
+    JsonNode blob = entry.has("data") ? entry.get("data") : entry.get("tx_blob");
+    if (blob == null || !blob.isTextual()) {
+      throw new IllegalArgumentException("Ledger entry has no data or tx_blob field: " + entry);
+    }
+
+    ObjectNode decoded = (ObjectNode) decodeObject(new BinaryParser(blob.asText()));
+    if (entry.has("index")) {
+      decoded.set("index", entry.get("index"));
+    }
+    if (entry.has("hash")) {
+      decoded.set("hash", entry.get("hash"));
+    }
+    if (entry.has("meta") && entry.get("meta").isTextual()) {
+      decoded.set("metaData", decodeObject(new BinaryParser(entry.get("meta").asText())));
+    }
+    return decoded;
+  }
+
+  private static JsonNode decodeObject(final BinaryParser parser) {
+    return STObjectType.toJson(parser, field -> true);
+  }
+
+  private Stream<JsonNode> stream(final int size, final IntFunction<JsonNode> decoder) {
+    DecodingSpliterator spliterator = new DecodingSpliterator(size, decoder);
+    return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+  }
+
+  /**
+   * A {@link Spliterator} that submits chunks of entries to the pool as they come within the decoding window, and
+   * emits the decoded entries of each chunk in order once it completes.
+   */
+  private final class DecodingSpliterator implements Spliterator<JsonNode> {
+
+    private final int size;
+    private final IntFunction<JsonNode> decoder;
+    private final int maxPendingChunks;
+    private final ArrayDeque<ForkJoinTask<JsonNode[]>> pendingChunks = new ArrayDeque<>();
+
+    private int nextSubmitted;
+    private int emitted;
+    private JsonNode[] chunk = new JsonNode[0];
+    private int chunkIndex;
+
+    DecodingSpliterator(final int size, final IntFunction<JsonNode> decoder) {
+      this.size = size;
+      this.decoder = decoder;
+      this.maxPendingChunks = CHUNKS_AHEAD_PER_THREAD * pool.getParallelism();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super JsonNode> action) {
+      Objects.requireNonNull(action);
+      if (chunkIndex == chunk.length && !nextChunk()) {
+        return false;
+      }
+      JsonNode entry = chunk[chunkIndex];
+      chunk[chunkIndex++] = null;
+      emitted++;
+      action.accept(entry);
+      return true;
+    }
+
+    private boolean nextChunk() {
+      submitChunks();
+      ForkJoinTask<JsonNode[]> next = pendingChunks.poll();
+      if (next == null) {
+        return false;
+      }
+      chunk = next.join();
+      chunkIndex = 0;
+      submitChunks();
+      return true;
+    }
+
+    private void submitChunks() {
+      while (pendingChunks.size() < maxPendingChunks && nextSubmitted < size) {
+        final int from = nextSubmitted;
+        final int to = Math.min(size, from + CHUNK_SIZE);
+        pendingChunks.add(pool.submit(() -> decodeRange(from, to)));
+        nextSubmitted = to;
+      }
+    }
+
+    private JsonNode[] decodeRange(final int from, final int to) {
+      JsonNode[] decoded = new JsonNode[to - from];
+      for (int index = from; index < to; index++) {
+        decoded[index - from] = decoder.apply(index);
+      }
+      return decoded;
+    }
+
+    void cancel() {
+      pendingChunks.forEach(task -> task.cancel(false));
+      pendingChunks.clear();
+      nextSubmitted = size;
+    }
+
+    @Override
+    public Spliterator<JsonNode> trySplit() {
+      // Entries are already decoded concurrently, so the stream itself is consumed sequentially.
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return size - emitted;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | NONNULL | IMMUTABLE;
+    }
+  }
+
+}
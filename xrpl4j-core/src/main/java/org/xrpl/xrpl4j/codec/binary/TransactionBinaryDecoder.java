@@ -0,0 +1,188 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerObject;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+
+import java.util.Objects;
+
+/**
+ * Decodes canonical XRPL binary directly to {@link Transaction}, {@link LedgerObject} and {@link TransactionMetadata}
+ * model objects.
+ *
+ * <p>Decoding with {@link XrplBinaryCodec#decode(String)} produces a JSON string, which must then be parsed again and,
+ * for transactions, read into a tree by the polymorphic {@link Transaction} deserializer before being converted to the
+ * concrete transaction type. This class instead decodes the binary into a JSON tree once and binds that tree directly
+ * to the concrete model type, chosen from the decoded {@code TransactionType} field.</p>
+ */
+public class TransactionBinaryDecoder {
+
+  private static final String TRANSACTION_TYPE = "TransactionType";
+  private static final String INDEX = "index";
+
+  private static final TransactionBinaryDecoder INSTANCE =
+    new TransactionBinaryDecoder(ObjectMapperFactory.getObjectMapper());
+
+  private final XrplBinaryCodec binaryCodec = XrplBinaryCodec.getInstance();
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Get a singleton instance of {@link TransactionBinaryDecoder} that binds models with the mapper returned by
+   * {@link ObjectMapperFactory#getObjectMapper()}.
+   *
+   * @return A {@link TransactionBinaryDecoder}.
+   */
+  public static TransactionBinaryDecoder getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper The {@link ObjectMapper} whose deserializers are used to bind decoded fields to models.
+   */
+  public TransactionBinaryDecoder(final ObjectMapper objectMapper) {
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+  }
+
+  /**
+   * Decodes a canonical XRPL binary hex encoded transaction to a {@link Transaction}. As with
+   * {@link XrplBinaryCodec#decode(String)}, a leading single-signing or multi-signing prefix is ignored.
+   *
+   * @param encodedTransaction A {@link String} value, in hex, to decode.
+   *
+   * @return The decoded {@link Transaction}, as an instance of its concrete type.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to the transaction type.
+   */
+  public Transaction decodeTransaction(final String encodedTransaction) throws JsonProcessingException {
+    Objects.requireNonNull(encodedTransaction);
+    return decodeTransaction(HexUtils.decode(encodedTransaction));
+  }
+
+  /**
+   * Decodes a canonical XRPL binary encoded transaction to a {@link Transaction}. As with
+   * {@link XrplBinaryCodec#decode(String)}, a leading single-signing or multi-signing prefix is ignored.
+   *
+   * @param encodedTransaction A byte array containing the encoded transaction.
+   *
+   * @return The decoded {@link Transaction}, as an instance of its concrete type.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to the transaction type.
+   */
+  public Transaction decodeTransaction(final byte[] encodedTransaction) throws JsonProcessingException {
+    Objects.requireNonNull(encodedTransaction);
+    JsonNode json = binaryCodec.decode(encodedTransaction, field -> true);
+    JsonNode transactionType = json.get(TRANSACTION_TYPE);
+    if (transactionType == null) {
+      throw new IllegalArgumentException("Encoded transaction has no TransactionType field.");
+    }
+    Class<? extends Transaction> transactionClass = Transaction.typeMap.inverse()
+      .get(TransactionType.forValue(transactionType.asText()));
+    if (transactionClass == null) {
+      throw new IllegalArgumentException("No model class for TransactionType " + transactionType.asText());
+    }
+    return objectMapper.treeToValue(json, transactionClass);
+  }
+
+  /**
+   * Decodes a canonical XRPL binary hex encoded ledger entry to a {@link LedgerObject}. Because a ledger entry's
+   * index is its key in the ledger rather than one of its fields, it is not part of the encoding and must be supplied
+   * separately.
+   *
+   * @param encodedLedgerObject A {@link String} value, in hex, to decode.
+   * @param index               The {@link Hash256} index of the ledger entry.
+   *
+   * @return The decoded {@link LedgerObject}, as an instance of the type named by its {@code LedgerEntryType}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to the ledger object type.
+   */
+  public LedgerObject decodeLedgerObject(final String encodedLedgerObject, final Hash256 index)
+    throws JsonProcessingException {
+    Objects.requireNonNull(encodedLedgerObject);
+    return decodeLedgerObject(HexUtils.decode(encodedLedgerObject), index);
+  }
+
+  /**
+   * Decodes a canonical XRPL binary encoded ledger entry to a {@link LedgerObject}. Because a ledger entry's index is
+   * its key in the ledger rather than one of its fields, it is not part of the encoding and must be supplied
+   * separately.
+   *
+   * @param encodedLedgerObject A byte array containing the encoded ledger entry.
+   * @param index               The {@link Hash256} index of the ledger entry.
+   *
+   * @return The decoded {@link LedgerObject}, as an instance of the type named by its {@code LedgerEntryType}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to the ledger object type.
+   */
+  public LedgerObject decodeLedgerObject(final byte[] encodedLedgerObject, final Hash256 index)
+    throws JsonProcessingException {
+    Objects.requireNonNull(encodedLedgerObject);
+    Objects.requireNonNull(index);
+    ObjectNode json = (ObjectNode) STObjectType.toJson(new BinaryParser(encodedLedgerObject), field -> true);
+    json.put(INDEX, index.value());
+    return objectMapper.treeToValue(json, LedgerObject.class);
+  }
+
+  /**
+   * Decodes canonical XRPL binary hex encoded transaction metadata, such as the {@code meta} of a binary
+   * {@code tx} response, to {@link TransactionMetadata}.
+   *
+   * @param encodedMetadata A {@link String} value, in hex, to decode.
+   *
+   * @return The decoded {@link TransactionMetadata}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to {@link TransactionMetadata}.
+   */
+  public TransactionMetadata decodeMetadata(final String encodedMetadata) throws JsonProcessingException {
+    Objects.requireNonNull(encodedMetadata);
+    return decodeMetadata(HexUtils.decode(encodedMetadata));
+  }
+
+  /**
+   * Decodes canonical XRPL binary encoded transaction metadata to {@link TransactionMetadata}.
+   *
+   * @param encodedMetadata A byte array containing the encoded metadata.
+   *
+   * @return The decoded {@link TransactionMetadata}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to {@link TransactionMetadata}.
+   */
+  public TransactionMetadata decodeMetadata(final byte[] encodedMetadata) throws JsonProcessingException {
+    Objects.requireNonNull(encodedMetadata);
+    return objectMapper.treeToValue(
+      STObjectType.toJson(new BinaryParser(encodedMetadata), field -> true), TransactionMetadata.class
+    );
+  }
+
+}
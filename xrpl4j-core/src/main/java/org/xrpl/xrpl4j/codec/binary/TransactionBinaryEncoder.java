@@ -0,0 +1,405 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.AmountType;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+import org.xrpl.xrpl4j.codec.binary.types.Hash256Type;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+import org.xrpl.xrpl4j.codec.binary.types.UInt16Type;
+import org.xrpl.xrpl4j.codec.binary.types.UInt32Type;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.model.flags.Flags;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.CurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encodes {@link Transaction} model objects to canonical XRPL binary without serializing the whole transaction to a
+ * JSON document and walking it by field name.
+ *
+ * <p>The first time a transaction class is encoded, its Jackson bean properties are matched to their binary field
+ * definitions and sorted into canonical field order. Every later transaction of that class is encoded by visiting those
+ * properties in order. This is a hybrid: the common scalar fields (TransactionType, Flags, UInt32, AccountID, Hash256,
+ * Amount, SigningPubKey and TxnSignature) are written straight from their getters, while the remaining fields (e.g.
+ * Memos, Signers or other nested objects and arrays) are serialized by the property's own Jackson serializer into a
+ * small JSON buffer that is encoded as it is read. Fields are omitted whenever Jackson would omit them, so the result
+ * is byte-for-byte the same as encoding the transaction's JSON with {@link XrplBinaryCodec}.</p>
+ *
+ * <p>Transaction classes that cannot be encoded this way (e.g. classes with a {@code JsonAnyGetter}), and UNLModify
+ * pseudo-transactions, are encoded through their JSON representation instead.</p>
+ */
+public class TransactionBinaryEncoder {
+
+  private static final TransactionBinaryEncoder INSTANCE = new TransactionBinaryEncoder(
+    ObjectMapperFactory.getObjectMapper(), XrplBinaryCodec.getInstance()
+  );
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+  private static final byte[] TRX_SIGNATURE_PREFIX_BYTES = UnsignedByteArray
+    .fromHex(XrplBinaryCodec.TRX_SIGNATURE_PREFIX)
+    .toByteArray();
+  private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper;
+  private final XrplBinaryCodec binaryCodec;
+  private final ConcurrentMap<Class<?>, Optional<List<Property>>> plans = new ConcurrentHashMap<>();
+  // Serializer providers hold per-call state, so each thread reuses its own rather than creating one per transaction.
+  private final ThreadLocal<DefaultSerializerProvider> providers = ThreadLocal.withInitial(this::newProvider);
+
+  /**
+   * Get a singleton instance of {@link TransactionBinaryEncoder} that serializes transactions with the mapper returned
+   * by {@link ObjectMapperFactory#getObjectMapper()}.
+   *
+   * @return A {@link TransactionBinaryEncoder}.
+   */
+  public static TransactionBinaryEncoder getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper The {@link ObjectMapper} whose serializers define the JSON form of each transaction.
+   * @param binaryCodec  The {@link XrplBinaryCodec} used for transactions that cannot be encoded directly.
+   */
+  public TransactionBinaryEncoder(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+    this.binaryCodec = Objects.requireNonNull(binaryCodec);
+  }
+
+  /**
+   * Encodes {@code transaction} to canonical XRPL binary, appending the encoded bytes to {@code sink}.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   * @param sink        An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   */
+  public UnsignedByteArray encode(final Transaction transaction, final UnsignedByteArray sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(sink);
+    Optional<List<Property>> plan = planFor(transaction);
+    if (!plan.isPresent()) {
+      return binaryCodec.encode(toJson(transaction), sink);
+    }
+    write(transaction, plan.get(), false, sink);
+    return sink;
+  }
+
+  /**
+   * Encodes {@code transaction} to canonical XRPL binary for signing purposes, appending the signature prefix followed
+   * by the encoded signing fields of {@code transaction} to {@code sink}.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   * @param sink        An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   */
+  public UnsignedByteArray encodeForSigning(final Transaction transaction, final UnsignedByteArray sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(sink);
+    Optional<List<Property>> plan = planFor(transaction);
+    if (!plan.isPresent()) {
+      return binaryCodec.encodeForSigning(toJson(transaction), sink);
+    }
+    sink.append(TRX_SIGNATURE_PREFIX_BYTES);
+    write(transaction, plan.get(), true, sink);
+    return sink;
+  }
+
+  private Optional<List<Property>> planFor(final Transaction transaction) {
+    // The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
+    if (transaction.transactionType() == TransactionType.UNL_MODIFY) {
+      return Optional.empty();
+    }
+    return plans.computeIfAbsent(transaction.getClass(), this::compile);
+  }
+
+  /**
+   * Matches the Jackson properties of {@code type} to their field definitions and sorts them into canonical order.
+   *
+   * @return The sorted properties, or empty if {@code type} cannot be encoded directly.
+   */
+  private Optional<List<Property>> compile(final Class<?> type) {
+    JavaType javaType = objectMapper.constructType(type);
+    if (objectMapper.getSerializationConfig().introspect(javaType).findAnyGetter() != null) {
+      return Optional.empty();
+    }
+
+    JsonSerializer<Object> serializer;
+    try {
+      serializer = providers.get().findTypedValueSerializer(javaType, true, null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (!(serializer instanceof BeanSerializerBase)) {
+      return Optional.empty();
+    }
+
+    List<Property> properties = new ArrayList<>();
+    for (Iterator<PropertyWriter> writers = serializer.properties(); writers.hasNext(); ) {
+      PropertyWriter writer = writers.next();
+      if (!(writer instanceof BeanPropertyWriter) || ((BeanPropertyWriter) writer).getTypeSerializer() != null) {
+        return Optional.empty();
+      }
+      BeanPropertyWriter propertyWriter = (BeanPropertyWriter) writer;
+      // Values that Jackson would omit as empty are omitted from the binary form as well.
+      boolean omitEmpty = propertyWriter.findPropertyInclusion(objectMapper.getSerializationConfig(), type)
+        .getValueInclusion() == JsonInclude.Include.NON_EMPTY;
+      Optional<FieldInstance> field = definitionsService.getFieldInstance(propertyWriter.getName())
+        .filter(FieldInstance::isSerialized);
+      field.ifPresent(fieldInstance -> properties.add(new Property(fieldInstance, propertyWriter, omitEmpty)));
+    }
+    properties.sort(Comparator.comparingInt(property -> property.field.ordinal()));
+    return Optional.of(properties);
+  }
+
+  private void write(
+    final Transaction transaction, final List<Property> plan, final boolean signingOnly, final UnsignedByteArray sink
+  ) {
+    try {
+      DefaultSerializerProvider provider = providers.get();
+      Object[] values = new Object[plan.size()];
+      boolean needsJson = false;
+      for (int i = 0; i < plan.size(); i++) {
+        Property property = plan.get(i);
+        if (!signingOnly || property.field.isSigningField()) {
+          values[i] = property.valueToWrite(transaction, provider);
+          needsJson |= values[i] != null && property.directWriter == null;
+        }
+      }
+
+      // Properties without a direct writer are serialized by Jackson first, in canonical order, so that they can be
+      // read back in step with the plan. JSON text is used rather than a TokenBuffer because numbers written as
+      // strings (e.g. UnsignedLong values) would otherwise be read back as floating point numbers.
+      ByteArrayBuilder json = new ByteArrayBuilder();
+      if (needsJson) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+          objectMapper.getSerializationConfig().initialize(generator);
+          generator.writeStartObject();
+          for (int i = 0; i < plan.size(); i++) {
+            if (values[i] != null && plan.get(i).directWriter == null) {
+              plan.get(i).serialize(values[i], generator, provider);
+            }
+          }
+          generator.writeEndObject();
+        }
+      }
+
+      BinarySerializer serializer = new BinarySerializer(sink);
+      STObjectType stObjectType = SerializedType.getTypeByClass(STObjectType.class);
+      try (JsonParser parser = objectMapper.getFactory().createParser(needsJson ? json.toByteArray() : EMPTY_JSON)) {
+        parser.nextToken();
+        parser.nextToken();
+        for (int i = 0; i < plan.size(); i++) {
+          Property property = plan.get(i);
+          if (values[i] == null) {
+            continue;
+          }
+          if (property.directWriter != null) {
+            serializer.writeFieldAndValue(property.field, property.directWriter.toSerializedType(unwrap(values[i])));
+          } else if (parser.currentToken() == JsonToken.FIELD_NAME &&
+            parser.getCurrentName().equals(property.writer.getName())) {
+            parser.nextToken();
+            stObjectType.writeField(property.field, parser, sink);
+            parser.nextToken();
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private JsonNode toJson(final Transaction transaction) {
+    try {
+      return objectMapper.readTree(objectMapper.writeValueAsBytes(transaction));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private DefaultSerializerProvider newProvider() {
+    return ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+      .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
+  }
+
+  private static Object unwrap(final Object value) {
+    if (value instanceof Optional) {
+      return ((Optional<?>) value).orElse(null);
+    }
+    return value;
+  }
+
+  /**
+   * Converts the value of a property to its binary type without going through JSON.
+   */
+  private interface DirectWriter {
+
+    SerializedType<?> toSerializedType(Object value) throws JsonProcessingException;
+  }
+
+  /**
+   * A serialized Jackson property of a transaction class, and the binary field it is encoded as.
+   */
+  private static final class Property {
+
+    private final FieldInstance field;
+    private final BeanPropertyWriter writer;
+    private final boolean omitEmpty;
+    private final DirectWriter directWriter;
+
+    private Property(final FieldInstance field, final BeanPropertyWriter writer, final boolean omitEmpty) {
+      this.field = field;
+      this.writer = writer;
+      this.omitEmpty = omitEmpty;
+      this.directWriter = directWriterFor(field, writer);
+    }
+
+    /**
+     * Reads this property from {@code transaction}, returning null if Jackson would leave it out of the JSON form of
+     * the transaction.
+     */
+    private Object valueToWrite(final Transaction transaction, final SerializerProvider provider)
+      throws JsonMappingException {
+      Object value = writer.getMember().getValue(transaction);
+      if (unwrap(value) == null || (omitEmpty && serializerFor(value, provider).isEmpty(provider, value))) {
+        return null;
+      }
+      return value;
+    }
+
+    private void serialize(final Object value, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+      generator.writeFieldName(writer.getName());
+      serializerFor(value, provider).serialize(value, generator, provider);
+    }
+
+    private JsonSerializer<Object> serializerFor(final Object value, final SerializerProvider provider)
+      throws JsonMappingException {
+      return writer.hasSerializer() ? writer.getSerializer() :
+        provider.findPrimaryPropertySerializer(value.getClass(), writer);
+    }
+
+    /**
+     * Finds a {@link DirectWriter} for properties whose JSON form is just the text or number of a simple value, or
+     * an amount, so that they can be encoded without writing them to JSON first.
+     */
+    private static DirectWriter directWriterFor(final FieldInstance field, final BeanPropertyWriter writer) {
+      if (writer.getAnnotation(JsonSerialize.class) != null) {
+        return null;
+      }
+      JavaType type = writer.getType();
+      Class<?> valueType = type.isReferenceType() ? type.getReferencedType().getRawClass() : type.getRawClass();
+      switch (field.type()) {
+        case "UInt16":
+          if (valueType == TransactionType.class) {
+            return value -> new UInt16Type(UnsignedLong.valueOf(
+              definitionsService.mapFieldSpecialization(field.name(), ((TransactionType) value).value()).get()
+            ));
+          }
+          return null;
+        case "UInt32":
+          if (valueType == UnsignedInteger.class) {
+            return value -> new UInt32Type(UnsignedLong.valueOf(((UnsignedInteger) value).longValue()));
+          }
+          if (Flags.class.isAssignableFrom(valueType)) {
+            return value -> new UInt32Type(UnsignedLong.valueOf(((Flags) value).getValue()));
+          }
+          return null;
+        case "AccountID":
+          if (valueType == Address.class) {
+            return value -> SerializedType.getTypeByClass(AccountIdType.class)
+              .fromJson(new TextNode(((Address) value).value()));
+          }
+          return null;
+        case "Hash256":
+          if (valueType == Hash256.class) {
+            return value -> new Hash256Type(UnsignedByteArray.fromHex(((Hash256) value).value()));
+          }
+          return null;
+        case "Amount":
+          if (CurrencyAmount.class.isAssignableFrom(valueType)) {
+            AmountType amountType = SerializedType.getTypeByClass(AmountType.class);
+            return value -> ((CurrencyAmount) value).map(
+              xrp -> amountType.fromDrops(xrp.toString()),
+              issued -> amountType.fromIouAmount(issued.iouValue(), issued.currency(), issued.issuer().value())
+            );
+          }
+          return null;
+        case "Blob":
+          if (valueType == PublicKey.class) {
+            return value -> new BlobType(((PublicKey) value).value());
+          }
+          if (valueType == Signature.class) {
+            return value -> new BlobType(((Signature) value).value());
+          }
+          return null;
+        default:
+          return null;
+      }
+    }
+  }
+
+}
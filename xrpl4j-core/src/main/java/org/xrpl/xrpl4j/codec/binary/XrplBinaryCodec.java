@@ -20,6 +20,7 @@ package org.xrpl.xrpl4j.codec.binary;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,17 +28,30 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.internal.ParallelRanges;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class XrplBinaryCodec {
@@ -50,9 +64,27 @@ public class XrplBinaryCodec {
   public static final String CHANNEL_FIELD_NAME = "Channel";
   public static final String AMOUNT_FIELD_NAME = "Amount";
 
+  private static final byte[] TRX_SIGNATURE_PREFIX_BYTES = HexUtils.decode(TRX_SIGNATURE_PREFIX);
+  private static final byte[] TRX_MULTI_SIGNATURE_PREFIX_BYTES = HexUtils.decode(TRX_MULTI_SIGNATURE_PREFIX);
+
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
+  /**
+   * The smallest number of values encoded by a single batch task. Batches no larger than this are encoded on the
+   * calling thread.
+   */
+  private static final int MIN_BATCH_CHUNK_SIZE = 256;
+
+  /**
+   * Per-thread output buffers larger than this are discarded after a batch rather than being retained by the thread.
+   */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+  // Private to encodeRange and never sliced, so clearing it between values always reuses its backing array.
+  private static final ThreadLocal<UnsignedByteArray> batchBuffer =
+    ThreadLocal.withInitial(UnsignedByteArray::empty);
+
   private static final XrplBinaryCodec INSTANCE = new XrplBinaryCodec();
 
   /**
@@ -74,23 +106,42 @@ public class XrplBinaryCodec {
    */
   public String encode(String json) throws JsonProcessingException {
     Objects.requireNonNull(json);
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return encode(node);
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectReader().readTree(json);
+    return encode(node, UnsignedByteArray.empty()).hexValue();
   }
 
   /**
-   * Encodes JSON to canonical XRPL binary as a hex string.
+   * Encodes JSON to canonical XRPL binary, appending the encoded bytes to {@code sink}.
    *
    * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   * @param sink     An {@link UnsignedByteArray} to append the encoded bytes to.
    *
-   * @return A {@link String} containing the hex-encoded representation of {@code jsonNode}.
-   * @throws JsonProcessingException if {@code jsonNode} is not valid JSON.
+   * @return {@code sink}, for call chaining convenience.
    */
-  private String encode(final JsonNode jsonNode) {
+  public UnsignedByteArray encode(final JsonNode jsonNode, final UnsignedByteArray sink) {
     Objects.requireNonNull(jsonNode);
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    Objects.requireNonNull(sink);
+    SerializedType.getTypeByClass(STObjectType.class).writeJson(jsonNode, sink);
+    return sink;
+  }
+
+  /**
+   * Encodes the JSON object read from {@code parser} to canonical XRPL binary, appending the encoded bytes to
+   * {@code sink}. The object is encoded directly from the parser's token stream, so large objects (e.g. ledger entries
+   * or transactions read from a file or socket) can be encoded without first building a {@link JsonNode} tree.
+   *
+   * @param parser A {@link JsonParser} that is either positioned on the {@code START_OBJECT} token of the object to
+   *               encode or has not yet been advanced.
+   * @param sink   An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   * @throws IOException if {@code parser} fails to read the JSON input.
+   */
+  public UnsignedByteArray encode(final JsonParser parser, final UnsignedByteArray sink) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(sink);
+    SerializedType.getTypeByClass(STObjectType.class).writeJson(parser, sink);
+    return sink;
   }
 
   /**
@@ -102,8 +153,24 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if JSON is not valid.
    */
   public String encodeForSigning(String json) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return TRX_SIGNATURE_PREFIX + encode(removeNonSigningFields(node));
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectReader().readTree(json);
+    return encodeForSigning(node, UnsignedByteArray.empty()).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing purposes, appending the signature prefix followed by the encoded
+   * signing fields of {@code jsonNode} to {@code sink}.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   * @param sink     An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   */
+  public UnsignedByteArray encodeForSigning(final JsonNode jsonNode, final UnsignedByteArray sink) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(sink);
+    sink.append(TRX_SIGNATURE_PREFIX_BYTES);
+    return encode(removeNonSigningFields(jsonNode), sink);
   }
 
   /**
@@ -116,14 +183,55 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if JSON is not valid.
    */
   public String encodeForMultiSigning(String json, String xrpAccountId) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    if (!node.isObject()) {
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectReader().readTree(json);
+    return encodeForMultiSigning(node, xrpAccountId, UnsignedByteArray.empty()).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing purposes, appending the multi-signature prefix, the encoded
+   * signing fields of {@code jsonNode} and the signer's AccountID to {@code sink}. {@code jsonNode} is not modified.
+   *
+   * @param jsonNode     A {@link JsonNode} containing JSON to be encoded.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   * @param sink         An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   */
+  public UnsignedByteArray encodeForMultiSigning(
+    final JsonNode jsonNode, final String xrpAccountId, final UnsignedByteArray sink
+  ) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(xrpAccountId);
+    Objects.requireNonNull(sink);
+    encodeForMultiSigningWithoutSigner(jsonNode, sink);
+    SerializedType.getTypeByClass(AccountIdType.class).fromJson(new TextNode(xrpAccountId)).toBytesSink(sink);
+    return sink;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing purposes, appending the multi-signature prefix and the
+   * encoded signing fields of {@code jsonNode} to {@code sink}, but not a signer's AccountID. These bytes are the same
+   * for every signer of a transaction, so they can be encoded once and then suffixed with the AccountID of each signer
+   * to obtain the bytes produced by {@link #encodeForMultiSigning(JsonNode, String, UnsignedByteArray)}.
+   * {@code jsonNode} is not modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   * @param sink     An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @return {@code sink}, for call chaining convenience.
+   */
+  public UnsignedByteArray encodeForMultiSigningWithoutSigner(final JsonNode jsonNode, final UnsignedByteArray sink) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(sink);
+    if (!jsonNode.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
+    ObjectNode signingNode = (ObjectNode) removeNonSigningFields(jsonNode);
     // any existing signing keys should not also be signed
-    ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
-    String suffix = new AccountIdType().fromJson(new TextNode(xrpAccountId)).toHex();
-    return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
+    signingNode.set("SigningPubKey", new TextNode(""));
+
+    sink.append(TRX_MULTI_SIGNATURE_PREFIX_BYTES);
+    return encode(signingNode, sink);
   }
 
   /**
@@ -136,7 +244,7 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException If the JSON is not valid.
    */
   public String encodeForSigningClaim(String json) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectReader().readTree(json);
     if (!node.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
@@ -155,6 +263,146 @@ public class XrplBinaryCodec {
     return PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX + byteArray.hexValue();
   }
 
+  /**
+   * Encodes each of {@code values} to canonical XRPL binary as a hex string, using the common
+   * {@link ForkJoinPool} to encode large batches in parallel.
+   *
+   * @param values A {@link List} of values to encode. See {@link #encodeAll(List, Executor)} for the supported types.
+   *
+   * @return A {@link List} containing the hex-encoded representation of each of {@code values}, in the same order.
+   * @throws JsonProcessingException if any of {@code values} is not valid JSON.
+   */
+  public List<String> encodeAll(final List<?> values) throws JsonProcessingException {
+    return encodeAll(values, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Encodes each of {@code values} to canonical XRPL binary as a hex string. Each value may be a {@link String}
+   * containing JSON, a {@link JsonNode}, or a model object such as a
+   * {@link org.xrpl.xrpl4j.model.transactions.Transaction}, which is serialized to JSON with the model's
+   * {@link ObjectMapper} first. JSON text and model objects are encoded directly from a token stream without building a
+   * {@link JsonNode} tree.
+   *
+   * <p>Each thread encodes into a single output buffer that is reused for every value it encodes. Large batches are
+   * split into contiguous chunks that are encoded concurrently on {@code executor}; small batches are encoded on the
+   * calling thread.</p>
+   *
+   * @param values   A {@link List} of values to encode.
+   * @param executor An {@link Executor} to encode chunks of large batches on.
+   *
+   * @return A {@link List} containing the hex-encoded representation of each of {@code values}, in the same order.
+   * @throws JsonProcessingException if any of {@code values} is not valid JSON.
+   */
+  public List<String> encodeAll(final List<?> values, final Executor executor) throws JsonProcessingException {
+    return encodeBatch(values, executor, false);
+  }
+
+  /**
+   * Encodes each of {@code values} to canonical XRPL binary as a hex string for signing purposes, using the common
+   * {@link ForkJoinPool} to encode large batches in parallel.
+   *
+   * @param values A {@link List} of values to encode. See {@link #encodeAll(List, Executor)} for the supported types.
+   *
+   * @return A {@link List} containing the hex-encoded signing representation of each of {@code values}, in the same
+   *   order.
+   * @throws JsonProcessingException if any of {@code values} is not valid JSON.
+   */
+  public List<String> encodeForSigningAll(final List<?> values) throws JsonProcessingException {
+    return encodeForSigningAll(values, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Encodes each of {@code values} to canonical XRPL binary as a hex string for signing purposes, as with
+   * {@link #encodeForSigning(String)}. Values are converted and batches are partitioned as described in
+   * {@link #encodeAll(List, Executor)}.
+   *
+   * @param values   A {@link List} of values to encode.
+   * @param executor An {@link Executor} to encode chunks of large batches on.
+   *
+   * @return A {@link List} containing the hex-encoded signing representation of each of {@code values}, in the same
+   *   order.
+   * @throws JsonProcessingException if any of {@code values} is not valid JSON.
+   */
+  public List<String> encodeForSigningAll(final List<?> values, final Executor executor)
+    throws JsonProcessingException {
+    return encodeBatch(values, executor, true);
+  }
+
+  private List<String> encodeBatch(final List<?> values, final Executor executor, final boolean forSigning)
+    throws JsonProcessingException {
+    Objects.requireNonNull(values);
+    Objects.requireNonNull(executor);
+
+    final int size = values.size();
+    final String[] encoded = new String[size];
+    try {
+      ParallelRanges.forEachRange(
+        size, MIN_BATCH_CHUNK_SIZE, executor, (from, to) -> encodeRange(values, from, to, forSigning, encoded)
+      );
+    } catch (UncheckedIOException e) {
+      throw unwrap(e);
+    }
+    return Collections.unmodifiableList(Arrays.asList(encoded));
+  }
+
+  /**
+   * Encodes {@code values[from, to)} into this thread's output buffer, storing the hex value of each in
+   * {@code encoded}.
+   */
+  private void encodeRange(
+    final List<?> values, final int from, final int to, final boolean forSigning, final String[] encoded
+  ) {
+    final UnsignedByteArray buffer = batchBuffer.get();
+    int maxLength = 0;
+    try {
+      for (int i = from; i < to; i++) {
+        buffer.clear();
+        encodeValue(values.get(i), forSigning, buffer);
+        encoded[i] = buffer.hexValue();
+        maxLength = Math.max(maxLength, buffer.length());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      buffer.clear();
+      if (maxLength > MAX_RETAINED_BUFFER_SIZE) {
+        batchBuffer.remove();
+      }
+    }
+  }
+
+  private void encodeValue(final Object value, final boolean forSigning, final UnsignedByteArray sink)
+    throws IOException {
+    Objects.requireNonNull(value);
+    if (value instanceof JsonNode) {
+      if (forSigning) {
+        encodeForSigning((JsonNode) value, sink);
+      } else {
+        encode((JsonNode) value, sink);
+      }
+      return;
+    }
+
+    try (JsonParser parser = value instanceof String ?
+      objectMapper.getFactory().createParser((String) value) :
+      objectMapper.getFactory().createParser(ObjectMapperFactory.writer().writeValueAsBytes(value))
+    ) {
+      if (forSigning) {
+        sink.append(TRX_SIGNATURE_PREFIX_BYTES);
+        SerializedType.getTypeByClass(STObjectType.class).writeJson(parser, sink, FieldInstance::isSigningField);
+      } else {
+        encode(parser, sink);
+      }
+    }
+  }
+
+  private static RuntimeException unwrap(final UncheckedIOException exception) throws JsonProcessingException {
+    if (exception.getCause() instanceof JsonProcessingException) {
+      throw (JsonProcessingException) exception.getCause();
+    }
+    return exception;
+  }
+
   /**
    * Decodes canonical XRPL binary hex encoded transaction string to JSON.
    *
@@ -180,6 +428,67 @@ public class XrplBinaryCodec {
       .toString();
   }
 
+  /**
+   * Decodes the top-level fields named in {@code fieldNames} from canonical XRPL binary to JSON. The values of all
+   * other fields are skipped without being decoded. As with {@link #decode(String)}, a leading single-signing or
+   * multi-signing prefix (and the multi-signing AccountId suffix) is ignored.
+   *
+   * @param encodedTransaction A byte array containing an encoded transaction or other STObject.
+   * @param fieldNames         A {@link Set} of the names of the top-level fields to decode.
+   *
+   * @return A {@link JsonNode} containing only the selected fields that are present, in the order they are encoded.
+   */
+  public JsonNode decode(final byte[] encodedTransaction, final Set<String> fieldNames) {
+    Objects.requireNonNull(fieldNames);
+    return decode(encodedTransaction, field -> fieldNames.contains(field.name()));
+  }
+
+  /**
+   * Decodes the top-level fields accepted by {@code fieldFilter} from canonical XRPL binary to JSON. The values of all
+   * other fields are skipped without being decoded. As with {@link #decode(String)}, a leading single-signing or
+   * multi-signing prefix (and the multi-signing AccountId suffix) is ignored.
+   *
+   * @param encodedTransaction A byte array containing an encoded transaction or other STObject.
+   * @param fieldFilter        A {@link Predicate} that accepts the top-level fields to decode.
+   *
+   * @return A {@link JsonNode} containing only the accepted fields, in the order they are encoded.
+   *
+   * @throws IllegalArgumentException if {@code encodedTransaction} has a multi-signing prefix but is too short to
+   *                                  contain the AccountId suffix.
+   */
+  public JsonNode decode(final byte[] encodedTransaction, final Predicate<FieldInstance> fieldFilter) {
+    Objects.requireNonNull(encodedTransaction);
+    Objects.requireNonNull(fieldFilter);
+    int offset = 0;
+    int length = encodedTransaction.length;
+    if (startsWith(encodedTransaction, TRX_SIGNATURE_PREFIX_BYTES)) {
+      offset = TRX_SIGNATURE_PREFIX_BYTES.length;
+      length -= offset;
+    } else if (startsWith(encodedTransaction, TRX_MULTI_SIGNATURE_PREFIX_BYTES)) {
+      // The suffix is always a Hash160, which is 160 bits/20 bytes.
+      offset = TRX_MULTI_SIGNATURE_PREFIX_BYTES.length;
+      length -= offset + 20;
+      if (length < 0) {
+        throw new IllegalArgumentException(
+          "Multi-signing encoded transaction is too short to contain the 20-byte AccountId suffix."
+        );
+      }
+    }
+    return STObjectType.toJson(new BinaryParser(encodedTransaction, offset, length), fieldFilter);
+  }
+
+  private static boolean startsWith(final byte[] bytes, final byte[] prefix) {
+    if (bytes.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (bytes[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Creates a deep copy of the given node, removing any fields that are not flagged as signing fields according to the
    * definition metadata.
@@ -27,7 +27,10 @@ import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -37,6 +40,11 @@ import java.util.stream.Collectors;
  */
 public class DefinitionsService {
 
+  /**
+   * The largest type code or field code that can be represented in a serialized field header.
+   */
+  private static final int MAX_HEADER_CODE = 255;
+
   private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance(),
     BinaryCodecObjectMapperFactory.getObjectMapper());
 
@@ -48,6 +56,14 @@ public class DefinitionsService {
 
   private final Map<String, Integer> typeOrdinalMap;
 
+  private final Map<String, FieldInstance> fieldInstanceMap;
+
+  /**
+   * Field instances indexed by type code and then field code, as they appear in a serialized field header. Only
+   * fields whose codes both fit in a field header (i.e., are in the range 0-255) are present.
+   */
+  private final FieldInstance[][] fieldInstancesByCode;
+
   private final Map<Integer, String> transactionTypeReverseLookupMap;
 
   private final Map<Integer, String> transactionResultReverseLookupNap;
@@ -64,20 +80,21 @@ public class DefinitionsService {
     this.definitions = definitionsProvider.get();
     this.typeOrdinalMap = ImmutableMap.copyOf(definitions.types());
 
+    this.fieldInstanceMap = parseFieldInstances(definitions, mapper);
+
     Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
     Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        tempFieldInfoMap.put(fieldName, metadata);
-        tempFieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
-      }
+    this.fieldInstancesByCode = new FieldInstance[MAX_HEADER_CODE + 1][];
+    this.fieldInstanceMap.values().forEach(fieldInstance -> {
+      tempFieldInfoMap.put(fieldInstance.name(), ImmutableFieldInfo.builder()
+        .nth(fieldInstance.nth())
+        .isSigningField(fieldInstance.isSigningField())
+        .isSerialized(fieldInstance.isSerialized())
+        .type(fieldInstance.type())
+        .isVariableLengthEncoded(fieldInstance.isVariableLengthEncoded())
+        .build());
+      tempFieldIdNameMap.put(fieldInstance.header(), fieldInstance.name());
+      indexByCode(fieldInstance);
     });
     this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
     this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
@@ -86,6 +103,57 @@ public class DefinitionsService {
     this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
   }
 
+  /**
+   * Parse the field entries of {@code definitions} into one {@link FieldInstance} per field. This is the only place
+   * that field entries are parsed, so that every component built from the same definitions shares this work.
+   *
+   * @param definitions A {@link Definitions}.
+   * @param mapper      An {@link ObjectMapper} used to read each field's {@link FieldInfo}.
+   *
+   * @return An immutable {@link Map} of {@link FieldInstance}s keyed by field name, in definition order.
+   */
+  public static Map<String, FieldInstance> parseFieldInstances(Definitions definitions, ObjectMapper mapper) {
+    Map<String, Integer> typeOrdinals = definitions.types();
+    Map<String, FieldInstance> fieldInstances = new LinkedHashMap<>();
+    definitions.fields().forEach(field -> {
+      try {
+        String fieldName = field.get(0).textValue();
+        FieldInfo metadata = mapper.treeToValue(field.get(1), FieldInfo.class);
+        Integer typeCode = typeOrdinals.get(metadata.type());
+        Preconditions.checkNotNull(typeCode, metadata.type() + " is not a valid type");
+        fieldInstances.put(fieldName, FieldInstance.builder()
+          .header(FieldHeader.builder().fieldCode(metadata.nth()).typeCode(typeCode).build())
+          .isSerialized(metadata.isSerialized())
+          .isSigningField(metadata.isSigningField())
+          .isVariableLengthEncoded(metadata.isVariableLengthEncoded())
+          .nth(metadata.nth())
+          .name(fieldName)
+          .type(metadata.type())
+          .build());
+      } catch (JsonProcessingException e) {
+        throw new IllegalArgumentException("invalid json", e);
+      }
+    });
+    return ImmutableMap.copyOf(fieldInstances);
+  }
+
+  private void indexByCode(FieldInstance fieldInstance) {
+    int typeCode = fieldInstance.header().typeCode();
+    int fieldCode = fieldInstance.header().fieldCode();
+    if (typeCode < 0 || typeCode > MAX_HEADER_CODE || fieldCode < 0 || fieldCode > MAX_HEADER_CODE) {
+      return;
+    }
+    FieldInstance[] fieldsOfType = fieldInstancesByCode[typeCode];
+    if (fieldsOfType == null) {
+      fieldsOfType = new FieldInstance[fieldCode + 1];
+      fieldInstancesByCode[typeCode] = fieldsOfType;
+    } else if (fieldsOfType.length <= fieldCode) {
+      fieldsOfType = Arrays.copyOf(fieldsOfType, fieldCode + 1);
+      fieldInstancesByCode[typeCode] = fieldsOfType;
+    }
+    fieldsOfType[fieldCode] = fieldInstance;
+  }
+
   /**
    * Obtain the JVM-wide instance of this {@link DefinitionsService}.
    *
@@ -136,11 +204,7 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldHeader}.
    */
   public Optional<FieldHeader> getFieldHeader(String fieldName) {
-    return getFieldInfo(fieldName).map(info -> {
-      Integer typeCode = getTypeOrdinal(info.type());
-      Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-      return FieldHeader.builder().typeCode(typeCode).fieldCode(info.nth()).build();
-    });
+    return getFieldInstance(fieldName).map(FieldInstance::header);
   }
 
   /**
@@ -151,18 +215,39 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    if (fieldName == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(fieldInstanceMap.get(fieldName));
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type code and field code, as read from a
+   * serialized field header.
+   *
+   * @param typeCode  An int representing the type code of the field.
+   * @param fieldCode An int representing the field code (i.e., the nth value) of the field.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode > MAX_HEADER_CODE) {
+      return Optional.empty();
+    }
+    FieldInstance[] fieldsOfType = fieldInstancesByCode[typeCode];
+    if (fieldsOfType == null || fieldCode < 0 || fieldCode >= fieldsOfType.length) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(fieldsOfType[fieldCode]);
+  }
+
+  /**
+   * Obtain every field instance defined in definitions.json.
+   *
+   * @return An immutable {@link Collection} of {@link FieldInstance}, in definition order.
+   */
+  public Collection<FieldInstance> getFieldInstances() {
+    return fieldInstanceMap.values();
   }
 
   /**
@@ -20,6 +20,7 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
  * =========================LICENSE_END==================================
  */
 
+import org.immutables.value.Value.Derived;
 import org.immutables.value.Value.Immutable;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
@@ -78,10 +79,12 @@ public interface FieldInstance extends Comparable<FieldInstance> {
   boolean isVariableLengthEncoded();
 
   /**
-   * Globally unique ordinal position based on type code and field code.
+   * Globally unique ordinal position based on type code and field code. This is the canonical sort key for fields in
+   * an STObject, so it is computed once when the instance is built.
    *
    * @return An int representing the ordinal of this FieldInstance.
    */
+  @Derived
   default int ordinal() {
     return (header().typeCode() << 16) | nth();
   }
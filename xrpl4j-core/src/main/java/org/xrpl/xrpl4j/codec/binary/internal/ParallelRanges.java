@@ -0,0 +1,114 @@
+package org.xrpl.xrpl4j.codec.binary.internal;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Partitions a batch of work into contiguous index ranges that are processed concurrently on an {@link Executor}. Used
+ * by {@link org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec#encodeAll(List, Executor)} and by the batch signing and
+ * verification methods, which differ only in how many items make a chunk worth handing to another thread.
+ *
+ * <p>This class is an implementation detail of xrpl4j and is not part of its public API; it may change or be removed
+ * in any release.</p>
+ */
+public final class ParallelRanges {
+
+  /**
+   * Batches are split into at most this many chunks per available processor, so that chunks of uneven cost can be
+   * balanced across the executor's threads.
+   */
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  private ParallelRanges() {
+  }
+
+  /**
+   * Processes the items at indices {@code [0, size)} with {@code task}. Batches no larger than {@code minChunkSize}
+   * are processed on the calling thread; larger batches are split into contiguous chunks of at least
+   * {@code minChunkSize} items that are processed on {@code executor}, and this method returns once every chunk has
+   * been processed.
+   *
+   * @param size         The number of items in the batch.
+   * @param minChunkSize The smallest number of items processed by a single task.
+   * @param executor     An {@link Executor} to process chunks of large batches on.
+   * @param task         A {@link RangeTask} that processes one contiguous range of items.
+   *
+   * @throws RuntimeException the exception thrown by {@code task} for any chunk, unwrapped from the
+   *                          {@link CompletionException} reported by {@code executor}.
+   */
+  public static void forEachRange(
+    final int size, final int minChunkSize, final Executor executor, final RangeTask task
+  ) {
+    Preconditions.checkArgument(size >= 0, "size must not be negative");
+    Preconditions.checkArgument(minChunkSize > 0, "minChunkSize must be positive");
+    Objects.requireNonNull(executor);
+    Objects.requireNonNull(task);
+
+    final int maxChunks = CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+    final int chunkSize = Math.max(minChunkSize, (size + maxChunks - 1) / maxChunks);
+    if (size <= chunkSize) {
+      task.run(0, size);
+      return;
+    }
+
+    final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int start = 0; start < size; start += chunkSize) {
+      final int from = start;
+      final int to = Math.min(size, start + chunkSize);
+      chunks.add(CompletableFuture.runAsync(() -> task.run(from, to), executor));
+    }
+    try {
+      CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Processes the items of a batch at indices {@code [from, to)}.
+   */
+  @FunctionalInterface
+  public interface RangeTask {
+
+    /**
+     * Process the items at indices {@code [from, to)}.
+     *
+     * @param from The index of the first item to process, inclusive.
+     * @param to   The index of the last item to process, exclusive.
+     */
+    void run(int from, int to);
+  }
+
+}
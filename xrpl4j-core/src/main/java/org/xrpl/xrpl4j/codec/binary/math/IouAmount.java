@@ -0,0 +1,747 @@
+package org.xrpl.xrpl4j.codec.binary.math;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * The numeric value of an XRPL issued currency (IOU) amount, held as a normalized {@code (mantissa, exponent,
+ * negative)} triple equal to {@code (negative ? -1 : 1) * mantissa * 10^exponent}.
+ *
+ * <p>Non-zero values always have a 16 digit mantissa between {@link #MIN_MANTISSA} and {@link #MAX_MANTISSA} and an
+ * exponent between {@link #MIN_EXPONENT} and {@link #MAX_EXPONENT}, which is the canonical form of the 64-bit issued
+ * currency encoding described at <a href=https://xrpl.org/currency-formats.html#issued-currency-amount-format>
+ * xrpl.org</a>. Zero has a mantissa and exponent of 0 and is never negative. Conversions to and from decimal strings
+ * and the binary format are exact and use only {@code long} arithmetic.</p>
+ *
+ * <p>Arithmetic follows rippled's {@code STAmount} rules for issued currencies rather than exact decimal arithmetic, so
+ * that results match the values the ledger computes: {@link #add(IouAmount)}, {@link #multiply(IouAmount)} and
+ * {@link #divide(IouAmount)} truncate to 16 digits after rippled's fixed rounding offsets, and
+ * {@link #multiplyRound(IouAmount, boolean)} and {@link #divideRound(IouAmount, boolean)} round in a requested
+ * direction, as used for offer crossing. Results smaller than the smallest representable amount become zero, and
+ * results larger than the largest representable amount throw an {@link ArithmeticException}.</p>
+ */
+public final class IouAmount implements Comparable<IouAmount> {
+
+  /**
+   * The smallest mantissa of a non-zero {@link IouAmount}.
+   */
+  public static final long MIN_MANTISSA = 1_000_000_000_000_000L;
+
+  /**
+   * The largest mantissa of a non-zero {@link IouAmount}.
+   */
+  public static final long MAX_MANTISSA = 9_999_999_999_999_999L;
+
+  /**
+   * The smallest exponent of a non-zero {@link IouAmount}. Together with a 16 digit mantissa, this corresponds to a
+   * scientific-notation exponent of -81.
+   */
+  public static final int MIN_EXPONENT = -96;
+
+  /**
+   * The largest exponent of a non-zero {@link IouAmount}. Together with a 16 digit mantissa, this corresponds to a
+   * scientific-notation exponent of 95.
+   */
+  public static final int MAX_EXPONENT = 80;
+
+  /**
+   * The number of significant decimal digits an {@link IouAmount} can hold.
+   */
+  public static final int PRECISION = 16;
+
+  public static final IouAmount ZERO = new IouAmount(0, 0, false);
+
+  private static final long NOT_NATIVE_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final int EXPONENT_SHIFT = 54;
+  private static final long MANTISSA_MASK = (1L << EXPONENT_SHIFT) - 1;
+  private static final int EXPONENT_BIAS = 97;
+
+  /**
+   * Exponents in decimal strings are clamped to this magnitude while parsing, which is far outside the valid range
+   * but small enough that adding the number of digits cannot overflow.
+   */
+  private static final long EXPONENT_CLAMP = 1_000_000_000L;
+
+  private static final long TEN_TO_14 = 100_000_000_000_000L;
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final long mantissa;
+  private final int exponent;
+  private final boolean negative;
+
+  private IouAmount(long mantissa, int exponent, boolean negative) {
+    this.mantissa = mantissa;
+    this.exponent = exponent;
+    this.negative = negative;
+  }
+
+  /**
+   * Construct an {@link IouAmount} equal to {@code (negative ? -1 : 1) * mantissa * 10^exponent}.
+   *
+   * @param negative {@code true} if the value is negative.
+   * @param mantissa A non-negative long. Trailing zeros beyond {@link #PRECISION} digits are removed.
+   * @param exponent An int representing the power of ten to scale {@code mantissa} by.
+   *
+   * @return A normalized {@link IouAmount}.
+   * @throws IllegalArgumentException if {@code mantissa} is negative, if the value cannot be represented with
+   *                                  {@link #PRECISION} digits, or if the exponent is out of range.
+   */
+  public static IouAmount of(boolean negative, long mantissa, int exponent) {
+    if (mantissa < 0) {
+      throw new IllegalArgumentException("mantissa must not be negative");
+    }
+    if (mantissa > MAX_MANTISSA && !fitsInPrecision(mantissa)) {
+      throw new IllegalArgumentException(mantissa + "E" + exponent + " has more than " + PRECISION + " digits");
+    }
+    return normalize(negative, mantissa, exponent);
+  }
+
+  /**
+   * Parse a decimal string, such as {@code "1.5"}, {@code "-0.0001"} or {@code "1e-20"}, into an {@link IouAmount}.
+   * The accepted syntax is the same as {@link BigDecimal#BigDecimal(String)}.
+   *
+   * @param value A decimal {@link String}.
+   *
+   * @return A normalized {@link IouAmount}.
+   * @throws NumberFormatException    if {@code value} is not a valid decimal number.
+   * @throws IllegalArgumentException if {@code value} has more than {@link #PRECISION} significant digits or its
+   *                                  exponent is out of range.
+   */
+  public static IouAmount fromString(String value) {
+    Objects.requireNonNull(value);
+    final int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      index++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int pendingZeros = 0;
+    long exponent = 0;
+    boolean sawDigit = false;
+    boolean sawPoint = false;
+    boolean tooManyDigits = false;
+    for (; index < length; index++) {
+      char character = value.charAt(index);
+      if (character == '.') {
+        if (sawPoint) {
+          throw invalidNumber(value);
+        }
+        sawPoint = true;
+        continue;
+      }
+      if (character < '0' || character > '9') {
+        break;
+      }
+      sawDigit = true;
+      if (sawPoint) {
+        exponent--;
+      }
+      if (character == '0') {
+        // Zeros are only significant once a non-zero digit follows them.
+        if (digits > 0) {
+          pendingZeros++;
+        }
+        continue;
+      }
+      if (tooManyDigits || digits + pendingZeros + 1 > PRECISION) {
+        tooManyDigits = true;
+        continue;
+      }
+      mantissa = mantissa * POWERS_OF_TEN[pendingZeros + 1] + (character - '0');
+      digits += pendingZeros + 1;
+      pendingZeros = 0;
+    }
+    if (!sawDigit) {
+      throw invalidNumber(value);
+    }
+
+    if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+      index++;
+      boolean negativeExponent = false;
+      if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+        negativeExponent = value.charAt(index) == '-';
+        index++;
+      }
+      if (index == length) {
+        throw invalidNumber(value);
+      }
+      long parsedExponent = 0;
+      for (; index < length; index++) {
+        char character = value.charAt(index);
+        if (character < '0' || character > '9') {
+          throw invalidNumber(value);
+        }
+        parsedExponent = Math.min(parsedExponent * 10 + (character - '0'), EXPONENT_CLAMP);
+      }
+      exponent += negativeExponent ? -parsedExponent : parsedExponent;
+    }
+    if (index != length) {
+      throw invalidNumber(value);
+    }
+
+    if (tooManyDigits) {
+      throw new IllegalArgumentException(value + " has more than " + PRECISION + " digits");
+    }
+    if (mantissa == 0) {
+      return ZERO;
+    }
+    return normalize(negative, mantissa, exponent + pendingZeros);
+  }
+
+  /**
+   * Decode the 64-bit binary form of an issued currency amount, i.e. the first eight bytes of a serialized {@code
+   * Amount} field, read as a big-endian long.
+   *
+   * @param bits A long holding the encoded amount.
+   *
+   * @return A normalized {@link IouAmount}.
+   * @throws IllegalArgumentException if {@code bits} does not encode an issued currency amount or its value is out
+   *                                  of range.
+   */
+  public static IouAmount fromBits(long bits) {
+    if ((bits & NOT_NATIVE_BIT) == 0) {
+      throw new IllegalArgumentException("Amount is not an issued currency amount");
+    }
+    long mantissa = bits & MANTISSA_MASK;
+    if (mantissa == 0) {
+      return ZERO;
+    }
+    int exponent = (int) ((bits >>> EXPONENT_SHIFT) & 0xFF) - EXPONENT_BIAS;
+    if (!fitsInPrecision(mantissa)) {
+      throw new IllegalArgumentException("Decimal precision out of range");
+    }
+    return normalize((bits & POSITIVE_BIT) == 0, mantissa, exponent);
+  }
+
+  /**
+   * Parse the hex-encoded 64-bit binary form of an issued currency amount.
+   *
+   * @param hex A 16 character hex {@link String}.
+   *
+   * @return A normalized {@link IouAmount}.
+   * @see #fromBits(long)
+   */
+  public static IouAmount fromHex(String hex) {
+    Objects.requireNonNull(hex);
+    if (hex.length() != 16) {
+      throw new IllegalArgumentException("Invalid input length " + hex.length());
+    }
+    return fromBits(Long.parseUnsignedLong(hex, 16));
+  }
+
+  private static boolean fitsInPrecision(long mantissa) {
+    while (mantissa > MAX_MANTISSA) {
+      if (mantissa % 10 != 0) {
+        return false;
+      }
+      mantissa /= 10;
+    }
+    return true;
+  }
+
+  /**
+   * Scale a non-zero mantissa to exactly {@link #PRECISION} digits. Callers must ensure that any digits removed from a
+   * mantissa larger than {@link #MAX_MANTISSA} are zeros.
+   */
+  private static IouAmount normalize(boolean negative, long mantissa, long exponent) {
+    if (mantissa == 0) {
+      return ZERO;
+    }
+    while (mantissa < MIN_MANTISSA) {
+      mantissa *= 10;
+      exponent--;
+    }
+    while (mantissa > MAX_MANTISSA) {
+      mantissa /= 10;
+      exponent++;
+    }
+    if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+      throw new IllegalArgumentException("exponent out of range");
+    }
+    return new IouAmount(mantissa, (int) exponent, negative);
+  }
+
+  private static NumberFormatException invalidNumber(String value) {
+    return new NumberFormatException(value + " is not a valid decimal number");
+  }
+
+  /**
+   * Bring {@code value * 10^offset} into canonical form the way rippled's {@code STAmount::canonicalize} does: extra
+   * digits are truncated, values too small to represent become zero, and values too large to represent are an error.
+   */
+  private static IouAmount canonicalize(boolean negative, long value, long offset) {
+    if (value == 0) {
+      return ZERO;
+    }
+    while (value < MIN_MANTISSA && offset > MIN_EXPONENT) {
+      value *= 10;
+      offset--;
+    }
+    while (value > MAX_MANTISSA) {
+      if (offset >= MAX_EXPONENT) {
+        throw new ArithmeticException("value overflow");
+      }
+      value /= 10;
+      offset++;
+    }
+    if (offset < MIN_EXPONENT || value < MIN_MANTISSA) {
+      return ZERO;
+    }
+    if (offset > MAX_EXPONENT) {
+      throw new ArithmeticException("value overflow");
+    }
+    return new IouAmount(value, (int) offset, negative);
+  }
+
+  /**
+   * Canonicalize a product or quotient that was rounded away from zero if {@code awayFromZero} is set, following
+   * rippled's {@code canonicalizeRound}: a last digit that does not fit in 16 digits is rounded up rather than
+   * truncated. A positive result that rounds up to zero becomes the smallest positive amount.
+   */
+  private static IouAmount round(
+    boolean resultNegative, long value, long offset, boolean awayFromZero, boolean roundUp
+  ) {
+    if (awayFromZero && value > MAX_MANTISSA) {
+      while (value > 10 * MAX_MANTISSA) {
+        value /= 10;
+        offset++;
+      }
+      value += 9;
+      value /= 10;
+      offset++;
+    }
+    IouAmount result = canonicalize(resultNegative, value, offset);
+    if (roundUp && !resultNegative && result.mantissa == 0) {
+      return new IouAmount(MIN_MANTISSA, MIN_EXPONENT, false);
+    }
+    return result;
+  }
+
+  /**
+   * Compute {@code (first * second) / 10^14} for two mantissas without overflowing a long, rounding up if {@code
+   * roundUp} is set and truncating otherwise.
+   */
+  private static long multiplyMantissas(long first, long second, boolean roundUp) {
+    final long base = 100_000_000L;
+    long firstHigh = first / base;
+    long firstLow = first % base;
+    long secondHigh = second / base;
+    long secondLow = second % base;
+
+    // first * second = high * 10^16 + middle * 10^8 + low, with each part less than 2 * 10^16.
+    long high = firstHigh * secondHigh;
+    long middle = firstHigh * secondLow + firstLow * secondHigh;
+    long low = firstLow * secondLow;
+
+    long quotient = high * 100 + middle / 1_000_000L + low / TEN_TO_14;
+    long remainder = (middle % 1_000_000L) * base + low % TEN_TO_14;
+    quotient += remainder / TEN_TO_14;
+    if (roundUp && remainder % TEN_TO_14 != 0) {
+      quotient++;
+    }
+    return quotient;
+  }
+
+  /**
+   * Compute {@code (numerator * 10^17) / denominator} for two mantissas without overflowing a long, rounding up if
+   * {@code roundUp} is set and truncating otherwise.
+   */
+  private static long divideMantissas(long numerator, long denominator, boolean roundUp) {
+    long quotient = numerator / denominator;
+    long remainder = numerator % denominator;
+    for (int i = 0; i < 17; i++) {
+      remainder *= 10;
+      quotient = quotient * 10 + remainder / denominator;
+      remainder %= denominator;
+    }
+    if (roundUp && remainder != 0) {
+      quotient++;
+    }
+    return quotient;
+  }
+
+  /**
+   * The 16 digit mantissa of this amount, or 0 if this amount is zero.
+   *
+   * @return A non-negative long.
+   */
+  public long mantissa() {
+    return mantissa;
+  }
+
+  /**
+   * The power of ten that {@link #mantissa()} is scaled by.
+   *
+   * @return An int between {@link #MIN_EXPONENT} and {@link #MAX_EXPONENT}, or 0 if this amount is zero.
+   */
+  public int exponent() {
+    return exponent;
+  }
+
+  /**
+   * Whether this amount is less than zero.
+   *
+   * @return {@code true} if this amount is negative.
+   */
+  public boolean isNegative() {
+    return negative;
+  }
+
+  /**
+   * Whether this amount is zero.
+   *
+   * @return {@code true} if this amount is zero.
+   */
+  public boolean isZero() {
+    return mantissa == 0;
+  }
+
+  /**
+   * The signum of this amount.
+   *
+   * @return -1, 0 or 1 as this amount is negative, zero or positive.
+   */
+  public int signum() {
+    return mantissa == 0 ? 0 : negative ? -1 : 1;
+  }
+
+  /**
+   * The negation of this amount.
+   *
+   * @return An {@link IouAmount} equal to {@code -this}.
+   */
+  public IouAmount negate() {
+    return mantissa == 0 ? this : new IouAmount(mantissa, exponent, !negative);
+  }
+
+  /**
+   * The absolute value of this amount.
+   *
+   * @return An {@link IouAmount} equal to {@code |this|}.
+   */
+  public IouAmount abs() {
+    return negative ? negate() : this;
+  }
+
+  /**
+   * Add {@code other} to this amount. As in rippled, the operand with the smaller exponent is truncated to the larger
+   * exponent before adding, and results within 10 units of the last digit of zero become zero.
+   *
+   * @param other The {@link IouAmount} to add.
+   *
+   * @return An {@link IouAmount} equal to {@code this + other}.
+   * @throws ArithmeticException if the result is too large to represent.
+   */
+  public IouAmount add(IouAmount other) {
+    Objects.requireNonNull(other);
+    if (this.mantissa == 0) {
+      return other;
+    }
+    if (other.mantissa == 0) {
+      return this;
+    }
+    long thisValue = this.negative ? -this.mantissa : this.mantissa;
+    long otherValue = other.negative ? -other.mantissa : other.mantissa;
+    int thisExponent = this.exponent;
+    int otherExponent = other.exponent;
+    // Shifting by more than 17 digits always truncates to zero.
+    if (otherExponent - thisExponent > 17) {
+      thisValue = 0;
+      thisExponent = otherExponent;
+    }
+    if (thisExponent - otherExponent > 17) {
+      otherValue = 0;
+      otherExponent = thisExponent;
+    }
+    while (thisExponent < otherExponent) {
+      thisValue /= 10;
+      thisExponent++;
+    }
+    while (otherExponent < thisExponent) {
+      otherValue /= 10;
+      otherExponent++;
+    }
+
+    long sum = thisValue + otherValue;
+    if (sum >= -10 && sum <= 10) {
+      return ZERO;
+    }
+    return canonicalize(sum < 0, Math.abs(sum), thisExponent);
+  }
+
+  /**
+   * Subtract {@code other} from this amount, with the same rounding as {@link #add(IouAmount)}.
+   *
+   * @param other The {@link IouAmount} to subtract.
+   *
+   * @return An {@link IouAmount} equal to {@code this - other}.
+   * @throws ArithmeticException if the result is too large to represent.
+   */
+  public IouAmount subtract(IouAmount other) {
+    return add(Objects.requireNonNull(other).negate());
+  }
+
+  /**
+   * Multiply this amount by {@code other} the way rippled's {@code multiply} does: the product of the mantissas is
+   * truncated to 18 digits, 7 is added to the last digit, and the result is truncated to 16 digits.
+   *
+   * @param other The {@link IouAmount} to multiply by.
+   *
+   * @return An {@link IouAmount} equal to {@code this * other}.
+   * @throws ArithmeticException if the result is too large to represent.
+   */
+  public IouAmount multiply(IouAmount other) {
+    Objects.requireNonNull(other);
+    if (this.mantissa == 0 || other.mantissa == 0) {
+      return ZERO;
+    }
+    return canonicalize(
+      this.negative != other.negative,
+      multiplyMantissas(this.mantissa, other.mantissa, false) + 7,
+      (long) this.exponent + other.exponent + 14
+    );
+  }
+
+  /**
+   * Multiply this amount by {@code other} the way rippled's {@code mulRound} does, rounding the result up (towards
+   * positive infinity) or down (towards negative infinity). A positive result that would otherwise round up to zero
+   * becomes the smallest positive amount.
+   *
+   * @param other   The {@link IouAmount} to multiply by.
+   * @param roundUp {@code true} to round up; {@code false} to round down.
+   *
+   * @return An {@link IouAmount} equal to {@code this * other}, rounded as requested.
+   * @throws ArithmeticException if the result is too large to represent.
+   */
+  public IouAmount multiplyRound(IouAmount other, boolean roundUp) {
+    Objects.requireNonNull(other);
+    if (this.mantissa == 0 || other.mantissa == 0) {
+      return ZERO;
+    }
+    boolean resultNegative = this.negative != other.negative;
+    boolean awayFromZero = resultNegative != roundUp;
+    long value = multiplyMantissas(this.mantissa, other.mantissa, awayFromZero);
+    long offset = (long) this.exponent + other.exponent + 14;
+    return round(resultNegative, value, offset, awayFromZero, roundUp);
+  }
+
+  /**
+   * Divide this amount by {@code other} the way rippled's {@code divide} does: the mantissas are divided with 17 extra
+   * digits of precision, 5 is added to the last digit, and the result is truncated to 16 digits.
+   *
+   * @param other The {@link IouAmount} to divide by.
+   *
+   * @return An {@link IouAmount} equal to {@code this / other}.
+   * @throws ArithmeticException if {@code other} is zero or the result is too large to represent.
+   */
+  public IouAmount divide(IouAmount other) {
+    Objects.requireNonNull(other);
+    if (other.mantissa == 0) {
+      throw new ArithmeticException("division by zero");
+    }
+    if (this.mantissa == 0) {
+      return ZERO;
+    }
+    return canonicalize(
+      this.negative != other.negative,
+      divideMantissas(this.mantissa, other.mantissa, false) + 5,
+      (long) this.exponent - other.exponent - 17
+    );
+  }
+
+  /**
+   * Divide this amount by {@code other} the way rippled's {@code divRound} does, rounding the result up (towards
+   * positive infinity) or down (towards negative infinity). A positive result that would otherwise round up to zero
+   * becomes the smallest positive amount.
+   *
+   * @param other   The {@link IouAmount} to divide by.
+   * @param roundUp {@code true} to round up; {@code false} to round down.
+   *
+   * @return An {@link IouAmount} equal to {@code this / other}, rounded as requested.
+   * @throws ArithmeticException if {@code other} is zero or the result is too large to represent.
+   */
+  public IouAmount divideRound(IouAmount other, boolean roundUp) {
+    Objects.requireNonNull(other);
+    if (other.mantissa == 0) {
+      throw new ArithmeticException("division by zero");
+    }
+    if (this.mantissa == 0) {
+      return ZERO;
+    }
+    boolean resultNegative = this.negative != other.negative;
+    boolean awayFromZero = resultNegative != roundUp;
+    long value = divideMantissas(this.mantissa, other.mantissa, awayFromZero);
+    long offset = (long) this.exponent - other.exponent - 17;
+    return round(resultNegative, value, offset, awayFromZero, roundUp);
+  }
+
+  /**
+   * Encode this amount into the 64-bit binary form of an issued currency amount.
+   *
+   * @return A long holding the encoded amount, to be written big-endian.
+   */
+  public long toBits() {
+    if (mantissa == 0) {
+      return NOT_NATIVE_BIT;
+    }
+    return NOT_NATIVE_BIT |
+      (negative ? 0 : POSITIVE_BIT) |
+      ((long) (exponent + EXPONENT_BIAS) << EXPONENT_SHIFT) |
+      mantissa;
+  }
+
+  /**
+   * Encode this amount into the hex-encoded 64-bit binary form of an issued currency amount.
+   *
+   * @return A 16 character upper-case hex {@link String}.
+   */
+  public String toHex() {
+    return String.format("%016X", toBits());
+  }
+
+  /**
+   * Convert this amount to a {@link BigDecimal} with trailing zeros removed.
+   *
+   * @return A {@link BigDecimal}.
+   */
+  public BigDecimal toBigDecimal() {
+    if (mantissa == 0) {
+      return BigDecimal.ZERO;
+    }
+    return BigDecimal.valueOf(negative ? -mantissa : mantissa, -exponent).stripTrailingZeros();
+  }
+
+  /**
+   * Format this amount as a decimal string without an exponent field and without trailing zeros, which is the same
+   * text that {@link BigDecimal#toPlainString()} produces for {@link #toBigDecimal()}.
+   *
+   * @return A decimal {@link String}.
+   */
+  public String toPlainString() {
+    if (mantissa == 0) {
+      return "0";
+    }
+    long unscaled = mantissa;
+    int scale = -exponent;
+    while (unscaled % 10 == 0) {
+      unscaled /= 10;
+      scale--;
+    }
+    int digitCount = 1;
+    while (digitCount < POWERS_OF_TEN.length && unscaled >= POWERS_OF_TEN[digitCount]) {
+      digitCount++;
+    }
+
+    int sign = negative ? 1 : 0;
+    final char[] chars;
+    if (scale <= 0) {
+      // An integer: the digits followed by -scale zeros.
+      chars = new char[sign + digitCount - scale];
+      writeDigits(unscaled, chars, sign, digitCount);
+      for (int i = sign + digitCount; i < chars.length; i++) {
+        chars[i] = '0';
+      }
+    } else if (digitCount > scale) {
+      // The decimal point falls within the digits.
+      int integerDigits = digitCount - scale;
+      chars = new char[sign + digitCount + 1];
+      writeDigits(unscaled / POWERS_OF_TEN[scale], chars, sign, integerDigits);
+      chars[sign + integerDigits] = '.';
+      writeDigits(unscaled % POWERS_OF_TEN[scale], chars, sign + integerDigits + 1, scale);
+    } else {
+      // Less than one: "0." followed by zero-padded digits.
+      chars = new char[sign + 2 + scale];
+      chars[sign] = '0';
+      chars[sign + 1] = '.';
+      writeDigits(unscaled, chars, sign + 2, scale);
+    }
+    if (negative) {
+      chars[0] = '-';
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Write exactly {@code count} decimal digits of {@code value}, left-padded with zeros, into {@code chars} starting
+   * at {@code offset}.
+   */
+  private static void writeDigits(long value, char[] chars, int offset, int count) {
+    for (int index = offset + count - 1; index >= offset; index--) {
+      chars[index] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  @Override
+  public int compareTo(IouAmount other) {
+    int signum = signum();
+    int otherSignum = other.signum();
+    if (signum != otherSignum) {
+      return Integer.compare(signum, otherSignum);
+    }
+    if (signum == 0) {
+      return 0;
+    }
+    // Both values are normalized, so the exponent orders them before the mantissa does.
+    int magnitude = exponent != other.exponent ?
+      Integer.compare(exponent, other.exponent) :
+      Long.compare(mantissa, other.mantissa);
+    return negative ? -magnitude : magnitude;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof IouAmount)) {
+      return false;
+    }
+    IouAmount that = (IouAmount) object;
+    return mantissa == that.mantissa && exponent == that.exponent && negative == that.negative;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(mantissa, exponent, negative);
+  }
+
+  @Override
+  public String toString() {
+    return toPlainString();
+  }
+
+}
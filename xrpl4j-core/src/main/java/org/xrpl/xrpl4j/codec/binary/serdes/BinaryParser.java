@@ -20,8 +20,7 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
  * =========================LICENSE_END==================================
  */
 
-import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
@@ -30,13 +29,14 @@ import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values. The parser reads directly from a {@code byte[]} using an int cursor, so hex input is
+ * decoded exactly once, when the parser is constructed.
  */
 public class BinaryParser {
 
@@ -50,22 +50,94 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
 
-  private int cursor = 0;
+  private final byte[] bytes;
+  private final int start;
+  private final int limit;
 
-  public BinaryParser(String hex) {
-    this.hex = hex;
+  private int cursor;
+
+  /**
+   * Construct a parser over the bytes encoded in {@code hex}.
+   *
+   * @param hex A hex-encoded {@link String}.
+   */
+  public BinaryParser(final String hex) {
+    this(HexUtils.decode(Objects.requireNonNull(hex)));
+  }
+
+  /**
+   * Construct a parser over {@code bytes}. The array is not copied, so it must not be modified while this parser is in
+   * use.
+   *
+   * @param bytes A byte array containing XRPL binary data.
+   */
+  public BinaryParser(final byte[] bytes) {
+    this(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Construct a parser over {@code length} bytes of {@code bytes}, starting at {@code offset}. The array is not copied,
+   * so it must not be modified while this parser is in use.
+   *
+   * @param bytes  A byte array containing XRPL binary data.
+   * @param offset The index of the first byte to parse.
+   * @param length The number of bytes to parse.
+   */
+  public BinaryParser(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        String.format("Invalid range [%s, %s) of array with length %s", offset, offset + length, bytes.length)
+      );
+    }
+    this.bytes = bytes;
+    this.start = offset;
+    this.limit = offset + length;
+    this.cursor = offset;
+  }
+
+  /**
+   * Construct a parser over the bytes in {@code unsignedByteArray}. The bytes are read in place, so
+   * {@code unsignedByteArray} must not be modified while this parser is in use.
+   *
+   * @param unsignedByteArray An {@link UnsignedByteArray} containing XRPL binary data.
+   */
+  public BinaryParser(final UnsignedByteArray unsignedByteArray) {
+    this(Objects.requireNonNull(unsignedByteArray).<BinaryParser>read(BinaryParser::new));
+  }
+
+  private BinaryParser(final BinaryParser parser) {
+    this.bytes = parser.bytes;
+    this.start = parser.start;
+    this.limit = parser.limit;
+    this.cursor = parser.cursor;
+  }
+
+  /**
+   * Construct a parser over the remaining bytes of {@code buffer}. Heap buffers are read in place; direct buffers are
+   * copied. The position of {@code buffer} is not modified.
+   *
+   * @param buffer A {@link ByteBuffer} containing XRPL binary data.
+   *
+   * @return A {@link BinaryParser}.
+   */
+  public static BinaryParser of(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (buffer.hasArray()) {
+      return new BinaryParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return new BinaryParser(copy);
   }
 
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    return UnsignedByte.of(bytes[checkAvailable(1)]);
   }
 
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    cursor = checkAvailable(bytesToSkip) + bytesToSkip;
   }
 
   /**
@@ -76,39 +148,87 @@ public class BinaryParser {
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
-      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
-    }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
-    }
-    return new UnsignedByteArray(result);
+    int from = checkAvailable(bytesToRead);
+    cursor += bytesToRead;
+    return UnsignedByteArray.wrap(Arrays.copyOfRange(bytes, from, from + bytesToRead));
+  }
+
+  /**
+   * Read from this parser without copying. The returned {@link UnsignedByteArray} is a view of this parser's input, so
+   * it must only be used while that input is not modified, and must not be retained; use {@link #read(int)} for
+   * values that outlive the parse.
+   *
+   * @param bytesToRead An int representing the number of bytes to read.
+   *
+   * @return An {@link UnsignedByteArray} view of the bytes that were read.
+   */
+  public UnsignedByteArray readView(int bytesToRead) {
+    int from = checkAvailable(bytesToRead);
+    cursor += bytesToRead;
+    return UnsignedByteArray.wrap(bytes, from, bytesToRead);
   }
 
-  public UnsignedLong readUInt8() {
-    return readUInt(1);
+  /**
+   * Read a single unsigned byte from this parser.
+   *
+   * @return An int in the range [0, 255].
+   */
+  public int readUInt8() {
+    int index = checkAvailable(1);
+    cursor += 1;
+    return bytes[index] & 0xFF;
   }
 
-  public UnsignedLong readUInt16() {
-    return readUInt(2);
+  /**
+   * Read a big-endian unsigned 16-bit integer from this parser.
+   *
+   * @return An int in the range [0, 65535].
+   */
+  public int readUInt16() {
+    int index = checkAvailable(2);
+    cursor += 2;
+    return (bytes[index] & 0xFF) << 8 | (bytes[index + 1] & 0xFF);
   }
 
-  public UnsignedLong readUInt32() {
-    return readUInt(4);
+  /**
+   * Read a big-endian unsigned 32-bit integer from this parser.
+   *
+   * @return A long in the range [0, 2^32 - 1].
+   */
+  public long readUInt32() {
+    int index = checkAvailable(4);
+    cursor += 4;
+    return ((long) (bytes[index] & 0xFF) << 24) |
+      ((bytes[index + 1] & 0xFF) << 16) |
+      ((bytes[index + 2] & 0xFF) << 8) |
+      (bytes[index + 3] & 0xFF);
   }
 
-  public UnsignedLong readUInt64() {
-    return readUInt(8);
+  /**
+   * Read a big-endian unsigned 64-bit integer from this parser. Values greater than {@link Long#MAX_VALUE} are
+   * returned as negative numbers, and can be interpreted using {@link com.google.common.primitives.UnsignedLong}.
+   *
+   * @return A long holding the 64 bits that were read.
+   */
+  public long readUInt64() {
+    return (readUInt32() << 32) | readUInt32();
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return limit - start;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < limit;
+  }
+
+  /**
+   * The number of bytes that have been read (or skipped) from this parser so far.
+   *
+   * @return An int between zero and {@link #size()}, inclusive.
+   */
+  public int position() {
+    return cursor - start;
   }
 
   /**
@@ -117,15 +237,15 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    int firstByte = this.readUInt8();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = this.readUInt8();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = this.readUInt8();
+      int b3 = this.readUInt8();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -139,25 +259,36 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
+    int ordinal = readFieldOrdinal();
+    return FieldHeader.builder().fieldCode(ordinal & 0xFFFF).typeCode(ordinal >>> 16).build();
+  }
+
+  /**
+   * Read a field header, returning its type code and field code packed in the same way as
+   * {@link FieldInstance#ordinal()}, so that no {@link FieldHeader} needs to be built when resolving a field.
+   *
+   * @return An int whose upper 16 bits hold the type code and whose lower 16 bits hold the field code.
+   */
+  private int readFieldOrdinal() {
+    int type = this.readUInt8();
     int nth = type & 15;
     type >>= 4;
 
     if (type == 0) {
-      type = this.readUInt8().intValue();
+      type = this.readUInt8();
       if (type == 0 || type < 16) {
         throw new Error("Cannot read FieldOrdinal, type_code out of range");
       }
     }
 
     if (nth == 0) {
-      nth = this.readUInt8().intValue();
+      nth = this.readUInt8();
       if (nth == 0 || nth < 16) {
         throw new Error("Cannot read FieldOrdinal, field_code out of range");
       }
     }
 
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
+    return (type << 16) | nth;
   }
 
   /**
@@ -166,9 +297,8 @@ public class BinaryParser {
    * @return The field represented by the bytes at the head of the BinaryParser.
    */
   public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    int ordinal = readFieldOrdinal();
+    return DefinitionsService.getInstance().getFieldInstance(ordinal >>> 16, ordinal & 0xFFFF);
   }
 
   /**
@@ -180,6 +310,10 @@ public class BinaryParser {
    * @return The instance of the type read from the BinaryParser.
    */
   public <T extends SerializedType<T>> T readType(Class<T> type) {
+    T codec = SerializedType.getTypeByClass(type);
+    if (codec != null) {
+      return codec.fromParser(this);
+    }
     try {
       return type.getDeclaredConstructor().newInstance().fromParser(this);
     } catch (Exception e) {
@@ -195,7 +329,8 @@ public class BinaryParser {
    * @return The type associated with the given field.
    */
   public SerializedType typeForField(FieldInstance field) {
-    return SerializedType.getTypeByName(field.type());
+    SerializedType<?> type = SerializedType.getTypeByOrdinal(field.header().typeCode());
+    return type != null ? type : SerializedType.getTypeByName(field.type());
   }
 
   /**
@@ -225,6 +360,27 @@ public class BinaryParser {
     }
   }
 
+  /**
+   * Advance past the value of the type specified by field, without decoding it. Variable length encoded values and
+   * values of fixed-width types are skipped using only their length; other values are skipped by their type's
+   * {@link SerializedType#skipFromParser(BinaryParser)}.
+   *
+   * @param field The field whose value is at the head of the BinaryParser.
+   */
+  public void skipFieldValue(final FieldInstance field) {
+    Objects.requireNonNull(field);
+    if (field.isVariableLengthEncoded()) {
+      this.skip(this.readVariableLengthLength());
+      return;
+    }
+
+    SerializedType type = this.typeForField(field);
+    if (type == null) {
+      throw new IllegalArgumentException("unsupported type " + field.type());
+    }
+    type.skipFromParser(this);
+  }
+
   /**
    * Get the next field and value from the BinaryParser.
    *
@@ -239,8 +395,21 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
+  /**
+   * Checks that {@code count} more bytes can be read from this parser.
+   *
+   * @param count The number of bytes about to be read.
+   *
+   * @return The current cursor position.
+   */
+  private int checkAvailable(int count) {
+    if (count < 0) {
+      throw new IndexOutOfBoundsException("cannot read or skip a negative number of bytes: " + count);
+    }
+    if (cursor + count > limit) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
+    return cursor;
   }
 
 }
@@ -77,6 +77,17 @@ public class BinarySerializer {
     throw new Error("Overflow error");
   }
 
+  /**
+   * Write only the header of {@code field} to BinarySerializer. Used by callers that stream the field's value into the
+   * sink themselves, such as nested STObject and STArray values.
+   *
+   * @param field A {@link FieldInstance} whose header should be written.
+   */
+  public void writeFieldHeader(final FieldInstance field) {
+    Objects.requireNonNull(field);
+    FieldHeaderCodec.getInstance().encode(field.name(), this.sink);
+  }
+
   /**
    * Write field and value to BinarySerializer.
    *
@@ -86,8 +97,7 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final SerializedType value) {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    String fieldHeaderHex = FieldHeaderCodec.getInstance().encode(field.name());
-    this.sink.append(UnsignedByteArray.fromHex(fieldHeaderHex));
+    writeFieldHeader(field);
 
     if (field.isVariableLengthEncoded()) {
       this.writeLengthEncoded(value);
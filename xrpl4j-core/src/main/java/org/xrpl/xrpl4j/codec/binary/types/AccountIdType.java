@@ -22,6 +22,9 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
@@ -29,11 +32,28 @@ import org.xrpl.xrpl4j.model.transactions.Address;
 
 /**
  * Codec for XRPL AccountID type.
+ *
+ * <p>Decoded values are interned in a bounded cache keyed by their 20 raw bytes, and each instance computes its
+ * base58check address at most once, so accounts that have been seen recently are not encoded again. See
+ * {@link #cacheStats()}.</p>
  */
 public class AccountIdType extends Hash160Type {
 
+  /**
+   * The maximum number of distinct accounts held by the interning cache.
+   */
+  public static final int CACHE_SIZE = 10_000;
+
   private static final AddressCodec addressCodec = new AddressCodec();
 
+  private static final Cache<UnsignedByteArray, AccountIdType> CACHE = Caffeine.newBuilder()
+    .maximumSize(CACHE_SIZE)
+    .recordStats()
+    .build();
+
+  // Computed on first use. TextNode is immutable, so a racy write only means the address may be encoded twice.
+  private TextNode address;
+
   public AccountIdType() {
     this(UnsignedByteArray.ofSize(20));
   }
@@ -42,9 +62,33 @@ public class AccountIdType extends Hash160Type {
     super(list);
   }
 
+  /**
+   * Hit and miss statistics for the cache that {@link #fromParser(BinaryParser)} and {@link #fromJson(JsonNode)} intern
+   * decoded accounts in.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public static CacheStats cacheStats() {
+    return CACHE.stats();
+  }
+
+  private static AccountIdType intern(UnsignedByteArray bytes) {
+    // Hits are looked up with the caller's bytes, without copying them. Only a miss copies them, once for the key that
+    // the cache keeps and once for the interned instance's value, so that neither the caller's array nor a caller of
+    // value() can change a key that is already in the cache. Misses are added with putIfAbsent(), which records no
+    // statistics, so that each call is recorded in cacheStats() exactly once.
+    final AccountIdType interned = CACHE.getIfPresent(bytes);
+    if (interned != null) {
+      return interned;
+    }
+    final AccountIdType created = new AccountIdType(UnsignedByteArray.of(bytes.toByteArray()));
+    final AccountIdType raced = CACHE.asMap().putIfAbsent(UnsignedByteArray.of(bytes.toByteArray()), created);
+    return raced != null ? raced : created;
+  }
+
   @Override
   public AccountIdType fromParser(BinaryParser parser) {
-    return new AccountIdType(parser.read(getWidth()));
+    return intern(parser.readView(getWidth()));
   }
 
   @Override
@@ -53,14 +97,19 @@ public class AccountIdType extends Hash160Type {
     if (textValue.isEmpty()) {
       return new AccountIdType();
     }
-    return HEX_REGEX.matcher(textValue).matches() ?
-      new AccountIdType(UnsignedByteArray.fromHex(textValue))
-      : new AccountIdType(addressCodec.decodeAccountId(Address.of(textValue)));
+    return intern(HEX_REGEX.matcher(textValue).matches() ?
+      UnsignedByteArray.fromHex(textValue)
+      : addressCodec.decodeAccountId(Address.of(textValue)));
   }
 
   @Override
   public JsonNode toJson() {
-    return new TextNode(addressCodec.encodeAccountId(value()).value());
+    TextNode result = address;
+    if (result == null) {
+      result = new TextNode(addressCodec.encodeAccountId(value()).value());
+      address = result;
+    }
+    return result;
   }
 
 }
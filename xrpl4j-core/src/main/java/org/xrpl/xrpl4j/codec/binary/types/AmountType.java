@@ -24,20 +24,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
-import org.xrpl.xrpl4j.codec.binary.math.MathUtils;
+import org.xrpl.xrpl4j.codec.binary.math.IouAmount;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.Objects;
 
 /**
  * Codec for XRPL Amount type.
  */
-class AmountType extends SerializedType<AmountType> {
+public class AmountType extends SerializedType<AmountType> {
 
   public static final BigDecimal MAX_DROPS = new BigDecimal("1e17");
   public static final BigDecimal MIN_XRP = new BigDecimal("1e-6");
@@ -46,23 +46,6 @@ class AmountType extends SerializedType<AmountType> {
   public static final String ZERO_CURRENCY_AMOUNT_HEX = "8000000000000000";
   public static final int NATIVE_AMOUNT_BYTE_LENGTH = 8;
   public static final int CURRENCY_AMOUNT_BYTE_LENGTH = 48;
-  private static final int MAX_IOU_PRECISION = 16;
-
-  /**
-   * According to <a href=https://xrpl.org/currency-formats.html#currency-formats>xrpl.org</a>,
-   * the minimum token value exponent is -96. However, because the value field is converted from a {@link String}
-   * to a {@link BigDecimal} when encoding/decoding, and because {@link BigDecimal} defaults to using single
-   * digit number, the minimum exponent in this context is -96 + 15, as XRPL amounts have a precision of 15 digits.
-   */
-  private static final int MIN_IOU_EXPONENT = -81;
-
-  /**
-   * According to <a href=https://xrpl.org/currency-formats.html#currency-formats>xrpl.org</a>,
-   * the maximum token value exponent is 80. However, because the value field is converted from a {@link String}
-   * to a {@link BigDecimal} when encoding/decoding, and because {@link BigDecimal} defaults to using single
-   * digit number, the maximum exponent in this context is 80 + 15, as XRPL amounts have a precision of 15 digits.
-   */
-  private static final int MAX_IOU_EXPONENT = 95;
 
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
@@ -93,42 +76,6 @@ class AmountType extends SerializedType<AmountType> {
     }
   }
 
-  /**
-   * Validate IOU.value amount
-   *
-   * @param decimal Decimal.js object representing IOU.value
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void assertIouIsValid(BigDecimal decimal) {
-    if (!decimal.equals(BigDecimal.ZERO)) {
-      int precision = decimal.precision();
-      int exponent = MathUtils.getExponent(decimal);
-      if (precision > MAX_IOU_PRECISION ||
-        exponent > MAX_IOU_EXPONENT ||
-        exponent < MIN_IOU_EXPONENT
-      ) {
-        throw new Error("Decimal precision out of range");
-      }
-      verifyNoDecimal(decimal);
-    }
-  }
-
-  /**
-   * Ensure that the value after being multiplied by the exponent does not contain a decimal.
-   *
-   * @param decimal a Decimal object
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void verifyNoDecimal(BigDecimal decimal) {
-    BigDecimal exponent = new BigDecimal("1e" + -(MathUtils.getExponent(decimal) - 15));
-    String integerNumberString = decimal.multiply(exponent).toPlainString();
-    if (integerNumberString.indexOf(".") > 0) {
-      throw new Error("Decimal place found in integerNumberString");
-    }
-  }
-
   @Override
   public AmountType fromParser(BinaryParser parser) {
     boolean isXrp = !parser.peek().isNthBitSet(1);
@@ -136,90 +83,94 @@ class AmountType extends SerializedType<AmountType> {
     return new AmountType(parser.read(numBytes));
   }
 
+  @Override
+  public void skipFromParser(BinaryParser parser) {
+    boolean isXrp = !parser.peek().isNthBitSet(1);
+    parser.skip(isXrp ? NATIVE_AMOUNT_BYTE_LENGTH : CURRENCY_AMOUNT_BYTE_LENGTH);
+  }
+
   @Override
   public AmountType fromJson(JsonNode value) throws JsonProcessingException {
     if (value.isValueNode()) {
-      assertXrpIsValid(value.asText());
-      UInt64Type number = new UInt64Type().fromJson(value.asText());
-      byte[] rawBytes = number.toBytes();
-      rawBytes[0] |= 0x40;
-      return new AmountType(UnsignedByteArray.of(rawBytes));
+      return fromDrops(value.asText());
     }
 
     Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
-
-    UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
-      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
-      getAmountBytes(number);
+    return fromIssuedCurrency(amount.value(), value.get("currency").asText(), value.get("issuer").asText());
+  }
 
-    UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
-    UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
+  /**
+   * Creates an XRP amount from its JSON form, which is a number of drops.
+   *
+   * @param drops A {@link String} containing a number of drops.
+   *
+   * @return An {@link AmountType}.
+   */
+  public AmountType fromDrops(String drops) {
+    assertXrpIsValid(drops);
+    byte[] rawBytes = new UInt64Type(UnsignedLong.valueOf(drops)).toBytes();
+    rawBytes[0] |= 0x40;
+    return new AmountType(UnsignedByteArray.of(rawBytes));
+  }
 
-    result.append(currency);
-    result.append(issuer);
+  /**
+   * Creates an issued currency amount from the fields of its JSON form.
+   *
+   * @param value    A {@link String} containing the decimal value of the amount.
+   * @param currency A {@link String} containing the currency code.
+   * @param issuer   A {@link String} containing the address or hex AccountID of the issuer.
+   *
+   * @return An {@link AmountType}.
+   */
+  public AmountType fromIssuedCurrency(String value, String currency, String issuer) {
+    return fromIouAmount(IouAmount.fromString(value), currency, issuer);
+  }
 
+  /**
+   * Creates an issued currency amount from an {@link IouAmount}, whose canonical bits are written as they are.
+   *
+   * @param value    An {@link IouAmount} holding the value of the amount.
+   * @param currency A {@link String} containing the currency code.
+   * @param issuer   A {@link String} containing the address or hex AccountID of the issuer.
+   *
+   * @return An {@link AmountType}.
+   */
+  public AmountType fromIouAmount(IouAmount value, String currency, String issuer) {
+    Objects.requireNonNull(value);
+    UnsignedByteArray result = UnsignedByteArray.withCapacity(CURRENCY_AMOUNT_BYTE_LENGTH)
+      .append(Longs.toByteArray(value.toBits()));
+    getTypeByClass(CurrencyType.class).fromJson(new TextNode(currency)).toBytesSink(result);
+    getTypeByClass(AccountIdType.class).fromJson(new TextNode(issuer)).toBytesSink(result);
     return new AmountType(result);
   }
 
-  private UnsignedByteArray getAmountBytes(BigDecimal number) {
-    BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
-    byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
-    amountBytes[0] |= 0x80;
-    if (number.compareTo(BigDecimal.ZERO) > 0) {
-      amountBytes[0] |= 0x40;
-    }
-
-    int exponent = MathUtils.getExponent(number);
-    if (exponent > MAX_IOU_EXPONENT || exponent < MIN_IOU_EXPONENT) {
-      throw new IllegalArgumentException("exponent out of range");
-    }
-    UnsignedByte exponentByte = UnsignedByte.of(97 + exponent - 15);
-    amountBytes[0] |= exponentByte.asInt() >>> 2;
-    amountBytes[1] |= (exponentByte.asInt() & 0x03) << 6;
-
-    return UnsignedByteArray.of(amountBytes);
+  /**
+   * The value of this issued currency amount as an {@link IouAmount}.
+   *
+   * @return An {@link IouAmount}.
+   * @throws IllegalArgumentException if this is an XRP amount.
+   */
+  public IouAmount toIouAmount() {
+    return IouAmount.fromBits(new BinaryParser(this.value()).readUInt64());
   }
 
   @Override
   public JsonNode toJson() {
+    BinaryParser parser = new BinaryParser(this.value());
+    long bits = parser.readUInt64();
     if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
-      }
-      return new TextNode(value.toString());
+      long drops = bits & 0x3FFFFFFFFFFFFFFFL;
+      return new TextNode(Long.toString(this.isPositive() ? drops : -drops));
     } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
-      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
-      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
-
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
-
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
-
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
-
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
-
-      assertIouIsValid(value);
-
-      Amount amount = Amount.builder()
-        .currency(currency.toJson().asText())
-        .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
-        .build();
-
-      return objectMapper.valueToTree(amount);
+      IouAmount value = IouAmount.fromBits(bits);
+      final SerializedType<?> currency = getTypeByClass(CurrencyType.class).fromParser(parser);
+      final SerializedType<?> issuer = getTypeByClass(AccountIdType.class).fromParser(parser);
+
+      // Same field order as the JSON form of Amount.
+      return objectMapper.createObjectNode()
+        .put("currency", currency.toJson().asText())
+        .put("value", value.toPlainString())
+        .put("issuer", issuer.toJson().asText());
     }
   }
 
@@ -230,7 +181,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isNative() {
     // 1st bit in 1st byte is set to 0 for native XRP
-    return (toBytes()[0] & 0x80) == 0;
+    return (value().get(0).asInt() & 0x80) == 0;
   }
 
   /**
@@ -240,7 +191,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isPositive() {
     // 2nd bit in 1st byte is set to 1 for positive amounts
-    return (toBytes()[0] & 0x40) > 0;
+    return (value().get(0).asInt() & 0x40) > 0;
   }
 
 }
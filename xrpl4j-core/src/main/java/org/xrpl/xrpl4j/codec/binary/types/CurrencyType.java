@@ -22,6 +22,9 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
@@ -31,12 +34,25 @@ import java.util.regex.Pattern;
 
 /**
  * Codec for currency property inside an XRPL issued currency amount json.
+ *
+ * <p>Decoded values are interned in a bounded cache keyed by their 20 raw bytes, so the ISO code of a currency that
+ * has been seen recently is not derived again. See {@link #cacheStats()}.</p>
  */
 @SuppressWarnings("AbbreviationAsWordInName")
 public class CurrencyType extends Hash160Type {
 
   private static final Pattern ISO_REGEX = Pattern.compile("^[a-zA-Z0-9]{3}$");
 
+  /**
+   * The maximum number of distinct currencies held by the interning cache.
+   */
+  public static final int CACHE_SIZE = 1_000;
+
+  private static final Cache<UnsignedByteArray, CurrencyType> CACHE = Caffeine.newBuilder()
+    .maximumSize(CACHE_SIZE)
+    .recordStats()
+    .build();
+
   private final Optional<String> iso;
 
   public CurrencyType() {
@@ -56,9 +72,33 @@ public class CurrencyType extends Hash160Type {
     this.iso = isNative ? Optional.of("XRP") : lossLessISO ? Optional.of(rawISO) : Optional.empty();
   }
 
+  /**
+   * Hit and miss statistics for the cache that {@link #fromParser(BinaryParser)} and {@link #fromJson(JsonNode)} intern
+   * decoded currencies in.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public static CacheStats cacheStats() {
+    return CACHE.stats();
+  }
+
+  private static CurrencyType intern(UnsignedByteArray bytes) {
+    // Hits are looked up with the caller's bytes, without copying them. Only a miss copies them, once for the key that
+    // the cache keeps and once for the interned instance's value, so that neither the caller's array nor a caller of
+    // value() can change a key that is already in the cache. Misses are added with putIfAbsent(), which records no
+    // statistics, so that each call is recorded in cacheStats() exactly once.
+    final CurrencyType interned = CACHE.getIfPresent(bytes);
+    if (interned != null) {
+      return interned;
+    }
+    final CurrencyType created = new CurrencyType(UnsignedByteArray.of(bytes.toByteArray()));
+    final CurrencyType raced = CACHE.asMap().putIfAbsent(UnsignedByteArray.of(bytes.toByteArray()), created);
+    return raced != null ? raced : created;
+  }
+
   @Override
   public CurrencyType fromParser(BinaryParser parser) {
-    return new CurrencyType(parser.read(getWidth()));
+    return intern(parser.readView(getWidth()));
   }
 
   @Override
@@ -68,7 +108,7 @@ public class CurrencyType extends Hash160Type {
       throw new IllegalArgumentException("Unsupported Currency representation: " + textValue);
     }
     UnsignedByteArray bytes = textValue.length() == 3 ? isoToBytes(textValue) : UnsignedByteArray.fromHex(textValue);
-    return new CurrencyType(bytes);
+    return intern(bytes);
   }
 
   @Override
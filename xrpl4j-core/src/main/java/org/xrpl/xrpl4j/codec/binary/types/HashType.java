@@ -22,6 +22,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 /**
  * Base class for XRPL Hash types.
@@ -56,6 +57,11 @@ public abstract class HashType<T extends HashType<T>> extends SerializedType<T>
     return width;
   }
 
+  @Override
+  public void skipFromParser(BinaryParser parser) {
+    parser.skip(width);
+  }
+
   /**
    * Returns four bits at the specified depth within a hash.
    *
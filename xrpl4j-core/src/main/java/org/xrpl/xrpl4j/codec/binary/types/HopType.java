@@ -52,7 +52,7 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
+    int type = parser.readUInt8();
     UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
 
     if ((type & TYPE_ACCOUNT) > 0) {
@@ -81,17 +81,17 @@ public class HopType extends SerializedType<HopType> {
     Hop hop = objectMapper.treeToValue(node, Hop.class);
 
     hop.account().ifPresent(account -> {
-      byteArray.append(new AccountIdType().fromJson(account).value());
+      byteArray.append(getTypeByClass(AccountIdType.class).fromJson(account).value());
       byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ACCOUNT)));
     });
 
     hop.currency().ifPresent(currency -> {
-      byteArray.append(new CurrencyType().fromJson(currency).value());
+      byteArray.append(getTypeByClass(CurrencyType.class).fromJson(currency).value());
       byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_CURRENCY)));
     });
 
     hop.issuer().ifPresent(issuer -> {
-      byteArray.append(new AccountIdType().fromJson(issuer).value());
+      byteArray.append(getTypeByClass(AccountIdType.class).fromJson(issuer).value());
       byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ISSUER)));
     });
 
@@ -100,21 +100,21 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+    BinaryParser parser = new BinaryParser(this.value());
+    int type = parser.readUInt8();
 
     ImmutableHop.Builder builder = Hop.builder();
 
     if ((type & TYPE_ACCOUNT) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
+      builder.account(getTypeByClass(AccountIdType.class).fromParser(parser).toJson());
     }
 
     if ((type & TYPE_CURRENCY) > 0) {
-      builder.currency(new CurrencyType().fromParser(parser).toJson());
+      builder.currency(getTypeByClass(CurrencyType.class).fromParser(parser).toJson());
     }
 
     if ((type & TYPE_ISSUER) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
+      builder.account(getTypeByClass(AccountIdType.class).fromParser(parser).toJson());
     }
 
     return objectMapper.valueToTree(builder.build());
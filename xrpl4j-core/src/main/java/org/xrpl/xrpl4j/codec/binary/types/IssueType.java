@@ -27,9 +27,11 @@ public class IssueType extends SerializedType<IssueType> {
 
     Issue issue = objectMapper.treeToValue(node, Issue.class);
 
-    UnsignedByteArray byteArray = new CurrencyType().fromJson(issue.currency()).value();
+    // Currency and AccountID values are interned, so their bytes are copied rather than appended to.
+    UnsignedByteArray byteArray = UnsignedByteArray.empty();
+    getTypeByClass(CurrencyType.class).fromJson(issue.currency()).toBytesSink(byteArray);
     issue.issuer().ifPresent(
-      issuer -> byteArray.append(new AccountIdType().fromJson(issuer).value())
+      issuer -> getTypeByClass(AccountIdType.class).fromJson(issuer).toBytesSink(byteArray)
     );
 
     return new IssueType(byteArray);
@@ -37,23 +39,24 @@ public class IssueType extends SerializedType<IssueType> {
 
   @Override
   public IssueType fromParser(BinaryParser parser) {
-    CurrencyType currency = new CurrencyType().fromParser(parser);
-    if (currency.toJson().asText().equals("XRP")) {
-      return new IssueType(currency.value());
+    CurrencyType currency = getTypeByClass(CurrencyType.class).fromParser(parser);
+    UnsignedByteArray byteArray = UnsignedByteArray.empty();
+    currency.toBytesSink(byteArray);
+    if (!currency.toJson().asText().equals("XRP")) {
+      getTypeByClass(AccountIdType.class).fromParser(parser).toBytesSink(byteArray);
     }
-    AccountIdType issuer = new AccountIdType().fromParser(parser);
-    return new IssueType(currency.value().append(issuer.value()));
+    return new IssueType(byteArray);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    JsonNode currency = new CurrencyType().fromParser(parser).toJson();
+    BinaryParser parser = new BinaryParser(this.value());
+    JsonNode currency = getTypeByClass(CurrencyType.class).fromParser(parser).toJson();
 
     ImmutableIssue.Builder builder = Issue.builder();
     builder.currency(currency);
     if (!currency.asText().equals("XRP")) {
-      JsonNode issuer = new AccountIdType().fromParser(parser).toJson();
+      JsonNode issuer = getTypeByClass(AccountIdType.class).fromParser(parser).toJson();
       builder.issuer(issuer);
     }
 
@@ -81,7 +81,7 @@ public class PathType extends SerializedType<PathType> {
   @Override
   public JsonNode toJson() {
     List<JsonNode> values = new ArrayList<>();
-    BinaryParser parser = new BinaryParser(this.toHex());
+    BinaryParser parser = new BinaryParser(this.value());
     while (parser.hasMore()) {
       values.add(new HopType().fromParser(parser).toJson());
     }
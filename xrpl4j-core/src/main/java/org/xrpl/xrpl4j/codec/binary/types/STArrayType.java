@@ -71,6 +71,18 @@ public class STArrayType extends SerializedType<STArrayType> {
     return new STArrayType(byteArray);
   }
 
+  @Override
+  public void skipFromParser(BinaryParser parser) {
+    while (parser.hasMore()) {
+      FieldInstance fieldInstance = parser.readField()
+        .orElseThrow(() -> new IllegalArgumentException("Parser should have had more fields but did not."));
+      if (fieldInstance.name().equals(ARRAY_END_MARKER_NAME)) {
+        break;
+      }
+      parser.skipFieldValue(fieldInstance);
+    }
+  }
+
   @Override
   public STArrayType fromJson(JsonNode node) {
     if (!node.isArray()) {
@@ -82,7 +94,7 @@ public class STArrayType extends SerializedType<STArrayType> {
     Iterator<JsonNode> nodeIterator = node.elements();
     while (nodeIterator.hasNext()) {
       JsonNode child = nodeIterator.next();
-      serializer.put(new STObjectType().fromJson(child).value().hexValue());
+      serializer.put(getTypeByClass(STObjectType.class).fromJson(child).value().hexValue());
     }
     serializer.put(ARRAY_END_MARKER_HEX);
     return new STArrayType(byteList);
@@ -90,14 +102,14 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.value());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
       if (field.name().equals(ARRAY_END_MARKER_NAME)) {
         break;
       }
-      STObjectType objectType = new STObjectType().fromParser(parser);
+      STObjectType objectType = getTypeByClass(STObjectType.class).fromParser(parser);
       ObjectNode child = new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(),
         ImmutableMap.of(field.name(), objectType.toJson()));
       values.add(child);
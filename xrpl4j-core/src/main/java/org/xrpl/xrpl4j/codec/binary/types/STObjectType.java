@@ -20,13 +20,15 @@ package org.xrpl.xrpl4j.codec.binary.types;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.Lists;
+import com.google.common.primitives.UnsignedBytes;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
@@ -34,16 +36,18 @@ import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
-import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Address;
 
-import java.math.BigInteger;
+import java.io.IOException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Codec for XRPL STObject type.
@@ -54,6 +58,9 @@ public class STObjectType extends SerializedType<STObjectType> {
   public static final String OBJECT_END_MARKER_HEX = "E1";
   private static final String OBJECT_END_MARKER = "ObjectEndMarker";
   private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final String VECTOR_256 = "Vector256";
+  private static final String SIGNERS = "Signers";
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
 
   public STObjectType() {
@@ -84,10 +91,33 @@ public class STObjectType extends SerializedType<STObjectType> {
     return new STObjectType(byteArray);
   }
 
+  @Override
+  public void skipFromParser(BinaryParser parser) {
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+      parser.skipFieldValue(field);
+    }
+  }
+
   @Override
   public STObjectType fromJson(JsonNode node) {
     UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
+    writeJson(node, byteList);
+    return new STObjectType(byteList);
+  }
+
+  /**
+   * Encodes {@code node} as an STObject and appends the resulting bytes directly to {@code sink}, without
+   * constructing an intermediate {@link STObjectType}.
+   *
+   * @param node A {@link JsonNode} containing the JSON object to encode.
+   * @param sink An {@link UnsignedByteArray} to append the encoded bytes to.
+   */
+  public void writeJson(final JsonNode node, final UnsignedByteArray sink) {
+    BinarySerializer serializer = new BinarySerializer(sink);
     boolean isUNLModify;
     try {
       isUNLModify = "UNLModify".equals(node.get("TransactionType").asText());
@@ -106,24 +136,8 @@ public class STObjectType extends SerializedType<STObjectType> {
       }
 
       JsonNode fieldNode;
-      // rippled expects signers canonically based on address
-      if (fieldName.equals("Signers")) {
-        final AddressCodec addressCodec = AddressCodec.getInstance();
-        ArrayNode arrayNode = (ArrayNode) node.get(fieldName);
-        List<JsonNode> jsonNodeList = new ArrayList<>();
-        for (JsonNode x : arrayNode) {
-          jsonNodeList.add(x);
-        }
-        List<JsonNode> jsonNodesSorted = jsonNodeList.stream().sorted(
-          Comparator.comparing(
-            signature -> new BigInteger(addressCodec.decodeAccountId(
-              Address.of(signature.get("Signer").get("Account").asText())
-            ).hexValue(), 16)
-          )
-        ).collect(Collectors.toList());
-
-        final ObjectMapper objectMapper = ObjectMapperFactory.create();
-        fieldNode = objectMapper.createObjectNode().arrayNode().addAll(jsonNodesSorted);
+      if (fieldName.equals(SIGNERS)) {
+        fieldNode = sortSigners((ArrayNode) node.get(fieldName));
       } else {
         fieldNode = node.get(fieldName);
       }
@@ -136,7 +150,7 @@ public class STObjectType extends SerializedType<STObjectType> {
           .build()));
     }
     fields.stream()
-      .sorted()
+      .sorted(Comparator.comparingInt(value -> value.field().ordinal()))
       .forEach(value -> {
         try {
           serializer.writeFieldAndValue(value.field(), value.value());
@@ -147,8 +161,180 @@ public class STObjectType extends SerializedType<STObjectType> {
           serializer.put(OBJECT_END_MARKER_HEX);
         }
       });
+  }
 
-    return new STObjectType(byteList);
+  /**
+   * Encodes the JSON object at the current position of {@code parser} as an STObject and appends the resulting bytes
+   * to {@code sink}. Unlike {@link #writeJson(JsonNode, UnsignedByteArray)}, no {@link JsonNode} tree is built for the
+   * object as a whole: each field is encoded into a per-object buffer as soon as its tokens are read, nested STObject
+   * and STArray values are streamed recursively, and the encoded fields are copied to {@code sink} in canonical field
+   * order once the object ends. Only leaf values that need a tree to be encoded (e.g. Amount or PathSet objects) and
+   * the Signers array (which must be sorted by account) are materialized.
+   *
+   * <p>On entry, {@code parser} must either be positioned on a {@link JsonToken#START_OBJECT} token or have no
+   * current token. On return, {@code parser} is positioned on the matching {@link JsonToken#END_OBJECT} token.</p>
+   *
+   * @param parser A {@link JsonParser} positioned at the JSON object to encode.
+   * @param sink   An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @throws IOException if {@code parser} fails to read the JSON input.
+   */
+  public void writeJson(final JsonParser parser, final UnsignedByteArray sink) throws IOException {
+    writeJson(parser, sink, field -> true);
+  }
+
+  /**
+   * Encodes the JSON object at the current position of {@code parser} as an STObject, as with
+   * {@link #writeJson(JsonParser, UnsignedByteArray)}, but only encodes the top-level fields accepted by
+   * {@code fieldFilter}. The values of all other fields are skipped without being encoded. Nested objects are always
+   * encoded in full.
+   *
+   * @param parser      A {@link JsonParser} positioned at the JSON object to encode.
+   * @param sink        An {@link UnsignedByteArray} to append the encoded bytes to.
+   * @param fieldFilter A {@link Predicate} that accepts the top-level fields to encode.
+   *
+   * @throws IOException if {@code parser} fails to read the JSON input.
+   */
+  public void writeJson(
+    final JsonParser parser, final UnsignedByteArray sink, final Predicate<FieldInstance> fieldFilter
+  ) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(sink);
+    Objects.requireNonNull(fieldFilter);
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+    if (token != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("JSON object expected but found " + token);
+    }
+
+    UnsignedByteArray fieldBytes = UnsignedByteArray.empty();
+    BinarySerializer serializer = new BinarySerializer(fieldBytes);
+    List<EncodedField> fields = new ArrayList<>();
+    String transactionType = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if (fieldName.equals("TransactionType")) {
+        transactionType = parser.getText();
+      }
+
+      Optional<FieldInstance> fieldInstance = definitionsService.getFieldInstance(fieldName)
+        .filter(FieldInstance::isSerialized)
+        .filter(fieldFilter);
+      if (!fieldInstance.isPresent()) {
+        parser.skipChildren();
+        continue;
+      }
+
+      int start = fieldBytes.length();
+      writeFieldValue(fieldInstance.get(), parser, serializer, fieldBytes);
+      // Later duplicates win, as they do when the same JSON is read into a tree.
+      fields.removeIf(field -> field.field.equals(fieldInstance.get()));
+      fields.add(new EncodedField(fieldInstance.get(), start, fieldBytes.length()));
+    }
+
+    // The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
+    boolean isUNLModify = "UNLModify".equals(transactionType);
+    fields.sort(Comparator.comparingInt(field -> field.field.ordinal()));
+    for (EncodedField field : fields) {
+      if (isUNLModify && field.field.name().equals("Account")) {
+        continue;
+      }
+      sink.append(fieldBytes.slice(field.start, field.end));
+    }
+  }
+
+  /**
+   * Encodes the header and value of {@code field}, whose JSON value starts at the current token of {@code parser}, and
+   * appends them to {@code sink}. On return, {@code parser} is positioned on the last token of the value.
+   *
+   * @param field  The {@link FieldInstance} to encode.
+   * @param parser A {@link JsonParser} positioned at the first token of the field's value.
+   * @param sink   An {@link UnsignedByteArray} to append the encoded bytes to.
+   *
+   * @throws IOException if {@code parser} fails to read the JSON input.
+   */
+  public void writeField(final FieldInstance field, final JsonParser parser, final UnsignedByteArray sink)
+    throws IOException {
+    Objects.requireNonNull(field);
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(sink);
+    writeFieldValue(field, parser, new BinarySerializer(sink), sink);
+  }
+
+  /**
+   * Encodes the header and value of {@code field}, whose value starts at the current token of {@code parser}.
+   */
+  private void writeFieldValue(
+    final FieldInstance field,
+    final JsonParser parser,
+    final BinarySerializer serializer,
+    final UnsignedByteArray fieldBytes
+  ) throws IOException {
+    switch (field.type()) {
+      case ST_OBJECT:
+        serializer.writeFieldHeader(field);
+        writeJson(parser, fieldBytes);
+        serializer.put(OBJECT_END_MARKER_HEX);
+        break;
+      case ST_ARRAY:
+        if (field.name().equals(SIGNERS)) {
+          JsonNode signers = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(parser);
+          serializer.writeFieldAndValue(field, sortSigners((ArrayNode) signers));
+          break;
+        }
+        expectArray(parser);
+        serializer.writeFieldHeader(field);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          writeJson(parser, fieldBytes);
+        }
+        serializer.put(STArrayType.ARRAY_END_MARKER_HEX);
+        break;
+      case VECTOR_256:
+        expectArray(parser);
+        UnsignedByteArray hashes = UnsignedByteArray.empty();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new IllegalArgumentException("non-string value found in vector");
+          }
+          new Hash256Type(UnsignedByteArray.fromHex(parser.getText())).toBytesSink(hashes);
+        }
+        serializer.writeFieldAndValue(field, new Vector256Type(hashes));
+        break;
+      default:
+        JsonNode value = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(parser);
+        serializer.writeFieldAndValue(field, mapSpecializedValues(field.name(), value));
+    }
+  }
+
+  private void expectArray(final JsonParser parser) {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new IllegalArgumentException("JSON array expected but found " + parser.currentToken());
+    }
+  }
+
+  /**
+   * Sorts the entries of a Signers array by the numeric value of each signer's AccountID, because rippled expects
+   * signers to be ordered canonically based on address. Each AccountID is decoded once, and the resulting 20-byte keys
+   * are compared as unsigned bytes, which orders them the same as their numeric values.
+   *
+   * @param signers An {@link ArrayNode} of Signer objects.
+   *
+   * @return An {@link ArrayNode} containing the same signers, sorted.
+   */
+  private JsonNode sortSigners(final ArrayNode signers) {
+    final AddressCodec addressCodec = AddressCodec.getInstance();
+    List<Map.Entry<byte[], JsonNode>> keyedSigners = new ArrayList<>(signers.size());
+    for (JsonNode signer : signers) {
+      byte[] accountId = addressCodec.decodeAccountId(
+        Address.of(signer.get("Signer").get("Account").asText())
+      ).toByteArray();
+      keyedSigners.add(new AbstractMap.SimpleImmutableEntry<>(accountId, signer));
+    }
+    keyedSigners.sort(Map.Entry.comparingByKey(UnsignedBytes.lexicographicalComparator()));
+
+    ArrayNode sorted = BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory().arrayNode(keyedSigners.size());
+    keyedSigners.forEach(entry -> sorted.add(entry.getValue()));
+    return sorted;
   }
 
   /**
@@ -174,21 +360,70 @@ public class STObjectType extends SerializedType<STObjectType> {
    * @return A {@link JsonNode}.
    */
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    return toJson(new BinaryParser(this.value()), field -> true);
+  }
+
+  /**
+   * Decode the STObject at the head of {@code parser} to JSON, including only the top-level fields accepted by
+   * {@code fieldFilter}. The values of all other fields are skipped without being decoded, so decoding a few fields of
+   * a large object costs little more than finding them.
+   *
+   * @param parser      A {@link BinaryParser} positioned at the start of an encoded STObject.
+   * @param fieldFilter A {@link Predicate} that accepts the top-level fields to decode. Nested fields of an accepted
+   *                    field are always decoded.
+   *
+   * @return A {@link JsonNode} containing the accepted fields, in the order they are encoded.
+   */
+  public static JsonNode toJson(final BinaryParser parser, final Predicate<FieldInstance> fieldFilter) {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(fieldFilter);
     Map<String, JsonNode> objectMap = new LinkedHashMap<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
       if (field.name().equals(OBJECT_END_MARKER)) {
         break;
       }
-      JsonNode value = parser.readFieldValue(field).toJson();
-      JsonNode mapped = definitionsService.mapFieldRawValueToSpecialization(field.name(), value.asText())
-        .map(TextNode::new)
-        .map(JsonNode.class::cast)
-        .orElse(value);
-      objectMap.put(field.name(), mapped);
+      if (fieldFilter.test(field)) {
+        objectMap.put(field.name(), toFieldJson(field, parser.readFieldValue(field)));
+      } else {
+        parser.skipFieldValue(field);
+      }
     }
     return new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), objectMap);
   }
 
+  /**
+   * Converts the decoded value of {@code field} to JSON, mapping raw values of fields such as TransactionType to their
+   * names.
+   *
+   * @param field A {@link FieldInstance}.
+   * @param value The decoded {@link SerializedType} value of {@code field}.
+   *
+   * @return A {@link JsonNode}.
+   */
+  static JsonNode toFieldJson(FieldInstance field, SerializedType<?> value) {
+    JsonNode json = value.toJson();
+    return definitionsService.mapFieldRawValueToSpecialization(field.name(), json.asText())
+      .map(TextNode::new)
+      .map(JsonNode.class::cast)
+      .orElse(json);
+  }
+
+  /**
+   * The encoded bytes of a single field, as a range of the per-object buffer used by
+   * {@link #writeJson(JsonParser, UnsignedByteArray)}.
+   */
+  private static final class EncodedField {
+
+    private final FieldInstance field;
+    private final int start;
+    private final int end;
+
+    private EncodedField(final FieldInstance field, final int start, final int end) {
+      this.field = field;
+      this.start = start;
+      this.end = end;
+    }
+  }
+
 }
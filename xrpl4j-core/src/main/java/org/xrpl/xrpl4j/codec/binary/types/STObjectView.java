@@ -0,0 +1,282 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read-only view of an encoded STObject, such as a transaction or ledger object blob, that decodes individual fields
+ * on demand.
+ *
+ * <p>The view does not copy the bytes it is created from. The first time any field is accessed, the object is scanned
+ * once to record where each top-level field's value starts and ends; field values are skipped during that scan using
+ * their length prefix or fixed width wherever possible. After that, reading a field only decodes that field's value.
+ * This makes the view much cheaper than {@link STObjectType#toJson()} when only a few fields of each object are
+ * needed.</p>
+ *
+ * <p>Because the underlying bytes are shared, they must not be modified while the view is in use. Instances are
+ * safe for use by multiple threads.</p>
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+public final class STObjectView {
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final String ST_OBJECT = "STObject";
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+
+  private volatile FieldIndex fieldIndex;
+
+  private STObjectView(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Create a view over all of {@code bytes}. The array is not copied.
+   *
+   * @param bytes A byte array containing an encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return of(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Create a view over {@code length} bytes of {@code bytes}, starting at {@code offset}. The array is not copied.
+   *
+   * @param bytes  A byte array containing an encoded STObject.
+   * @param offset The index of the first byte of the encoded STObject.
+   * @param length The number of bytes in the encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        String.format("offset %s and length %s out of bounds for length %s", offset, length, bytes.length)
+      );
+    }
+    return new STObjectView(bytes, offset, length);
+  }
+
+  /**
+   * Create a view over the contents of {@code bytes}. Because {@link UnsignedByteArray} does not expose its backing
+   * array, the contents are copied once.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing an encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    return of(bytes.toByteArray());
+  }
+
+  /**
+   * The top-level fields present in this object, in the order they are encoded.
+   *
+   * @return An unmodifiable {@link List} of {@link FieldInstance}.
+   */
+  public List<FieldInstance> fields() {
+    return Collections.unmodifiableList(Arrays.asList(fieldIndex().fields));
+  }
+
+  /**
+   * Whether this object contains a top-level field named {@code fieldName}.
+   *
+   * @param fieldName The name of a field, e.g. {@code "Account"}.
+   *
+   * @return {@code true} if the field is present; {@code false} otherwise.
+   */
+  public boolean has(final String fieldName) {
+    return fieldIndex().indexOf(fieldName) >= 0;
+  }
+
+  /**
+   * Decode the value of the top-level field named {@code fieldName}.
+   *
+   * @param fieldName The name of a field, e.g. {@code "Sequence"}.
+   *
+   * @return An optionally-present {@link SerializedType} that is empty if the field is not present.
+   */
+  public Optional<SerializedType<?>> getValue(final String fieldName) {
+    FieldIndex index = fieldIndex();
+    int position = index.indexOf(fieldName);
+    if (position < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(readValue(index, position));
+  }
+
+  /**
+   * Decode the value of the top-level field named {@code fieldName} to JSON, in the same form as
+   * {@link STObjectType#toJson()} would produce for that field. For example, the value of {@code TransactionType} is
+   * the name of the transaction type rather than its code.
+   *
+   * @param fieldName The name of a field, e.g. {@code "TransactionType"}.
+   *
+   * @return An optionally-present {@link JsonNode} that is empty if the field is not present.
+   */
+  public Optional<JsonNode> getJson(final String fieldName) {
+    FieldIndex index = fieldIndex();
+    int position = index.indexOf(fieldName);
+    if (position < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(STObjectType.toFieldJson(index.fields[position], readValue(index, position)));
+  }
+
+  /**
+   * Create a view over the value of the top-level STObject field named {@code fieldName}, sharing this view's bytes.
+   *
+   * @param fieldName The name of a field of type STObject.
+   *
+   * @return An optionally-present {@link STObjectView} that is empty if the field is not present.
+   * @throws IllegalArgumentException if the field is present but is not of type STObject.
+   */
+  public Optional<STObjectView> getObject(final String fieldName) {
+    FieldIndex index = fieldIndex();
+    int position = index.indexOf(fieldName);
+    if (position < 0) {
+      return Optional.empty();
+    }
+    Preconditions.checkArgument(
+      index.fields[position].type().equals(ST_OBJECT), "%s is not of type %s", fieldName, ST_OBJECT
+    );
+    int start = index.starts[position];
+    return Optional.of(new STObjectView(bytes, start, index.ends[position] - start));
+  }
+
+  /**
+   * Decode every field of this object to JSON. The result is the same as that of {@link STObjectType#toJson()}.
+   *
+   * @return A {@link JsonNode}.
+   */
+  public JsonNode toJson() {
+    FieldIndex index = fieldIndex();
+    Map<String, JsonNode> objectMap = new LinkedHashMap<>();
+    for (int position = 0; position < index.fields.length; position++) {
+      FieldInstance field = index.fields[position];
+      objectMap.put(field.name(), STObjectType.toFieldJson(field, readValue(index, position)));
+    }
+    return new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), objectMap);
+  }
+
+  private SerializedType<?> readValue(final FieldIndex index, final int position) {
+    FieldInstance field = index.fields[position];
+    int start = index.starts[position];
+    int valueLength = index.ends[position] - start;
+    BinaryParser parser = new BinaryParser(bytes, start, valueLength);
+    SerializedType<?> type = SerializedType.getTypeByOrdinal(field.header().typeCode());
+    return field.isVariableLengthEncoded() ? type.fromParser(parser, valueLength) : type.fromParser(parser);
+  }
+
+  private FieldIndex fieldIndex() {
+    FieldIndex index = this.fieldIndex;
+    if (index == null) {
+      index = FieldIndex.scan(bytes, offset, length);
+      this.fieldIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * The top-level fields of an encoded STObject, along with the start and end offsets of each field's value in the
+   * underlying byte array. For variable length encoded fields, the value starts after the length prefix.
+   */
+  private static final class FieldIndex {
+
+    private final FieldInstance[] fields;
+    private final int[] starts;
+    private final int[] ends;
+
+    private FieldIndex(final FieldInstance[] fields, final int[] starts, final int[] ends) {
+      this.fields = fields;
+      this.starts = starts;
+      this.ends = ends;
+    }
+
+    private static FieldIndex scan(final byte[] bytes, final int offset, final int length) {
+      BinaryParser parser = new BinaryParser(bytes, offset, length);
+      List<FieldInstance> fields = new ArrayList<>();
+      int[] starts = new int[16];
+      int[] ends = new int[16];
+      while (parser.hasMore()) {
+        FieldInstance field = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+        if (field.name().equals(OBJECT_END_MARKER)) {
+          break;
+        }
+
+        int start;
+        if (field.isVariableLengthEncoded()) {
+          int valueLength = parser.readVariableLengthLength();
+          start = parser.position();
+          parser.skip(valueLength);
+        } else {
+          start = parser.position();
+          parser.skipFieldValue(field);
+        }
+
+        if (fields.size() == starts.length) {
+          starts = Arrays.copyOf(starts, starts.length * 2);
+          ends = Arrays.copyOf(ends, ends.length * 2);
+        }
+        starts[fields.size()] = offset + start;
+        ends[fields.size()] = offset + parser.position();
+        fields.add(field);
+      }
+      return new FieldIndex(fields.toArray(new FieldInstance[0]), starts, ends);
+    }
+
+    private int indexOf(final String fieldName) {
+      for (int position = 0; position < fields.length; position++) {
+        if (fields[position].name().equals(fieldName)) {
+          return position;
+        }
+      }
+      return -1;
+    }
+  }
+
+}
@@ -26,11 +26,12 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Supplier;
+import java.util.function.Function;
 
 /**
  * Defines an abstract type serialization parent-class for all XRPL serialized type definitions.
@@ -39,26 +40,6 @@ import java.util.function.Supplier;
  */
 public abstract class SerializedType<T extends SerializedType<T>> {
 
-  @SuppressWarnings("all")
-  private static final Map<String, Supplier<SerializedType<?>>> typeMap =
-    new ImmutableMap.Builder<String, Supplier<SerializedType<?>>>()
-      .put("AccountID", () -> new AccountIdType())
-      .put("Amount", () -> new AmountType())
-      .put("Blob", () -> new BlobType())
-      .put("Currency", () -> new CurrencyType())
-      .put("Hash128", () -> new Hash128Type())
-      .put("Hash160", () -> new Hash160Type())
-      .put("Hash256", () -> new Hash256Type())
-      .put("PathSet", () -> new PathSetType())
-      .put("STArray", () -> new STArrayType())
-      .put("STObject", () -> new STObjectType())
-      .put("UInt8", () -> new UInt8Type())
-      .put("UInt16", () -> new UInt16Type())
-      .put("UInt32", () -> new UInt32Type())
-      .put("UInt64", () -> new UInt64Type())
-      .put("Vector256", () -> new Vector256Type())
-      .put("Issue", () -> new IssueType())
-      .build();
   private final UnsignedByteArray bytes;
 
   public SerializedType(UnsignedByteArray bytes) {
@@ -66,14 +47,42 @@ public abstract class SerializedType<T extends SerializedType<T>> {
   }
 
   /**
-   * Get the {@link SerializedType} for the supplied {@code name}.
+   * Get the shared {@link SerializedType} for the supplied {@code name}. The returned instance holds a default value
+   * and is only meant to be used as a codec; every {@code from*} method returns a new value object.
    *
    * @param name A {@link String} representing the name of a {@link SerializedType}.
    *
-   * @return A {@link SerializedType} for the supplied {@code name}.
+   * @return A {@link SerializedType} for the supplied {@code name}, or {@code null} if no such type exists.
    */
   public static SerializedType<?> getTypeByName(String name) {
-    return typeMap.get(name).get();
+    return Registry.BY_NAME.get(name);
+  }
+
+  /**
+   * Get the shared {@link SerializedType} for the supplied type ordinal, as found in the {@code TYPES} section of the
+   * XRPL definitions and in {@link org.xrpl.xrpl4j.codec.binary.FieldHeader#typeCode()}.
+   *
+   * @param ordinal An int representing the type ordinal.
+   *
+   * @return A {@link SerializedType} for the supplied {@code ordinal}, or {@code null} if no such type exists.
+   */
+  public static SerializedType<?> getTypeByOrdinal(int ordinal) {
+    if (ordinal < 0 || ordinal >= Registry.BY_ORDINAL.length) {
+      return null;
+    }
+    return Registry.BY_ORDINAL[ordinal];
+  }
+
+  /**
+   * Get the shared {@link SerializedType} of the supplied class.
+   *
+   * @param type The {@link Class} of the {@link SerializedType} to get.
+   * @param <T>  The actual type of the {@link SerializedType}.
+   *
+   * @return A {@link T}, or {@code null} if {@code type} is not a registered {@link SerializedType}.
+   */
+  public static <T extends SerializedType<?>> T getTypeByClass(Class<T> type) {
+    return type.cast(Registry.BY_CLASS.get(type));
   }
 
   /**
@@ -84,12 +93,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    * @return A {@link String} representing the name of {@code type}.
    */
   public static String getNameByType(SerializedType<?> type) {
-    return typeMap.entrySet()
-      .stream()
-      .filter(entry -> entry.getValue().get().getClass().equals(type.getClass()))
-      .map(Map.Entry::getKey)
-      .findAny()
-      .orElse(null);
+    return Registry.NAMES_BY_CLASS.get(type.getClass());
   }
 
   /**
@@ -115,6 +119,17 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     return fromParser(parser);
   }
 
+  /**
+   * Advance {@code parser} past a value of this type without building a {@link T}. Sub-classes whose encoded width can
+   * be determined without decoding the value override this to skip bytes directly; the default implementation reads
+   * the value and discards it.
+   *
+   * @param parser A {@link BinaryParser} positioned at the start of a value of this type.
+   */
+  public void skipFromParser(BinaryParser parser) {
+    fromParser(parser);
+  }
+
   /**
    * Obtain a {@link T} using the supplied {@code node}.
    *
@@ -134,11 +149,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    */
   public T fromJson(String json) {
     try {
-      JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-      UnsignedByteArray byteList = UnsignedByteArray.empty();
-      T newValue = fromJson(node);
-      newValue.toBytesSink(byteList);
-      return newValue;
+      return fromJson(BinaryCodecObjectMapperFactory.getObjectReader().readTree(json));
     } catch (JsonProcessingException e) {
       throw new IllegalArgumentException(e);
     }
@@ -218,4 +229,59 @@ public abstract class SerializedType<T extends SerializedType<T>> {
   public String toString() {
     return this.toHex();
   }
+
+  /**
+   * Holds one shared instance of each {@link SerializedType}. Sub-classes never mutate themselves and always return a
+   * new value from {@link #fromParser(BinaryParser)}, {@link #fromJson(JsonNode)} and {@link #fromHex(String)}, so a
+   * single default-valued instance per type is safe to use concurrently. The registry lives in a holder class so that
+   * sub-classes are only constructed once {@link SerializedType} itself has finished initializing.
+   */
+  private static final class Registry {
+
+    private static final Map<String, SerializedType<?>> BY_NAME = new ImmutableMap.Builder<String, SerializedType<?>>()
+      .put("AccountID", new AccountIdType())
+      .put("Amount", new AmountType())
+      .put("Blob", new BlobType())
+      .put("Currency", new CurrencyType())
+      .put("Hash128", new Hash128Type())
+      .put("Hash160", new Hash160Type())
+      .put("Hash256", new Hash256Type())
+      .put("PathSet", new PathSetType())
+      .put("STArray", new STArrayType())
+      .put("STObject", new STObjectType())
+      .put("UInt8", new UInt8Type())
+      .put("UInt16", new UInt16Type())
+      .put("UInt32", new UInt32Type())
+      .put("UInt64", new UInt64Type())
+      .put("Vector256", new Vector256Type())
+      .put("Issue", new IssueType())
+      .build();
+
+    private static final Map<Class<?>, SerializedType<?>> BY_CLASS = BY_NAME.values().stream()
+      .collect(ImmutableMap.toImmutableMap(SerializedType::getClass, Function.identity()));
+
+    private static final Map<Class<?>, String> NAMES_BY_CLASS = BY_NAME.entrySet().stream()
+      .collect(ImmutableMap.toImmutableMap(entry -> entry.getValue().getClass(), Map.Entry::getKey));
+
+    private static final SerializedType<?>[] BY_ORDINAL = indexByOrdinal();
+
+    private static SerializedType<?>[] indexByOrdinal() {
+      DefinitionsService definitionsService = DefinitionsService.getInstance();
+      int maxOrdinal = -1;
+      for (String name : BY_NAME.keySet()) {
+        Integer ordinal = definitionsService.getTypeOrdinal(name);
+        if (ordinal != null) {
+          maxOrdinal = Math.max(maxOrdinal, ordinal);
+        }
+      }
+      SerializedType<?>[] byOrdinal = new SerializedType<?>[maxOrdinal + 1];
+      BY_NAME.forEach((name, type) -> {
+        Integer ordinal = definitionsService.getTypeOrdinal(name);
+        if (ordinal != null && ordinal >= 0) {
+          byOrdinal[ordinal] = type;
+        }
+      });
+      return byOrdinal;
+    }
+  }
 }
@@ -39,7 +39,7 @@ public class UInt64Type extends UIntType<UInt64Type> {
 
   @Override
   public UInt64Type fromParser(BinaryParser parser) {
-    return new UInt64Type(parser.readUInt64());
+    return new UInt64Type(UnsignedLong.fromLongBits(parser.readUInt64()));
   }
 
   @Override
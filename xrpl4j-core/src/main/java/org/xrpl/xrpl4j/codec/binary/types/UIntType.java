@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 /**
  * Base codec for XRPL UInt types.
@@ -46,6 +47,11 @@ abstract class UIntType<T extends UIntType<T>> extends SerializedType<T> {
     return value;
   }
 
+  @Override
+  public void skipFromParser(BinaryParser parser) {
+    parser.skip(value().length());
+  }
+
   @Override
   public JsonNode toJson() {
     return new TextNode(UnsignedLong.valueOf(toHex(), 16).toString());
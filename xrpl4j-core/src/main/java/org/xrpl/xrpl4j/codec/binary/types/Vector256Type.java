@@ -22,7 +22,8 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
@@ -30,14 +31,22 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Codec for XRPL Vector256 type.
+ *
+ * <p>The hashes in a vector are held packed, back to back, in a single {@link UnsignedByteArray}, rather than as one
+ * {@link Hash256Type} per entry. Use {@link #size()} and {@link #getHex(int)} for indexed access, {@link #entries()}
+ * to walk the hashes without allocating an object per hash, and {@link #toHexList()} to hex-encode every hash at
+ * once.</p>
  */
 public class Vector256Type extends SerializedType<Vector256Type> {
 
   public static final int WIDTH = 32;
 
+  private static final int HEX_WIDTH = WIDTH * 2;
+
   public Vector256Type() {
     this(UnsignedByteArray.empty());
   }
@@ -48,13 +57,8 @@ public class Vector256Type extends SerializedType<Vector256Type> {
 
   @Override
   public Vector256Type fromParser(BinaryParser parser, int lengthHint) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    int bytes = lengthHint;
-    int hashes = bytes / WIDTH;
-    for (int i = 0; i < hashes; i++) {
-      new Hash256Type().fromParser(parser).toBytesSink(byteArray);
-    }
-    return new Vector256Type(byteArray);
+    int hashes = lengthHint / WIDTH;
+    return new Vector256Type(parser.read(hashes * WIDTH));
   }
 
   @Override
@@ -62,26 +66,180 @@ public class Vector256Type extends SerializedType<Vector256Type> {
     if (!node.isArray()) {
       throw new IllegalArgumentException("node is not an array");
     }
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    byte[] packed = new byte[node.size() * WIDTH];
+    int offset = 0;
     Iterator<JsonNode> nodeIterator = node.elements();
     while (nodeIterator.hasNext()) {
       JsonNode child = nodeIterator.next();
       if (!child.isTextual()) {
         throw new IllegalArgumentException("non-string value found in vector");
       }
-      new Hash256Type().fromJson(child).toBytesSink(byteList);
+      String hex = child.textValue();
+      if (hex.length() == HEX_WIDTH) {
+        HexUtils.decode(hex, 0, HEX_WIDTH, packed, offset);
+      } else {
+        // Let Hash256Type apply its own padding and length validation.
+        byte[] hash = getTypeByClass(Hash256Type.class).fromJson(child).toBytes();
+        System.arraycopy(hash, 0, packed, offset, WIDTH);
+      }
+      offset += WIDTH;
+    }
+    return new Vector256Type(UnsignedByteArray.wrap(packed));
+  }
+
+  /**
+   * The number of hashes in this vector.
+   *
+   * @return An int.
+   */
+  public int size() {
+    return value().length() / WIDTH;
+  }
+
+  /**
+   * Get the hash at {@code index} as a {@link Hash256Type}.
+   *
+   * @param index The index of the hash.
+   *
+   * @return A {@link Hash256Type} holding a copy of the hash.
+   * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+   */
+  public Hash256Type get(int index) {
+    return new Hash256Type(UnsignedByteArray.wrap(slice(index).toByteArray()));
+  }
+
+  /**
+   * Get the hash at {@code index} as an upper-case hex {@link String}.
+   *
+   * @param index The index of the hash.
+   *
+   * @return A 64 character hex {@link String}.
+   * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+   */
+  public String getHex(int index) {
+    return slice(index).hexValue();
+  }
+
+  /**
+   * Hex-encode every hash in this vector. The whole vector is encoded in a single pass and then split into
+   * {@link String}s.
+   *
+   * @return A {@link List} of 64 character, upper-case hex {@link String}s, in order.
+   */
+  public List<String> toHexList() {
+    int size = size();
+    char[] hex = new char[size * HEX_WIDTH];
+    value().read((packed, offset, length) -> HexUtils.encode(packed, offset, size * WIDTH, hex, 0));
+    List<String> hashes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      hashes.add(new String(hex, i * HEX_WIDTH, HEX_WIDTH));
+    }
+    return hashes;
+  }
+
+  /**
+   * An {@link Iterable} over the hashes in this vector. Each iterator returns the same {@link Entry} from every call to
+   * {@link Iterator#next()}, repositioned over the next hash, so an {@link Entry} must not be retained between calls.
+   * Entries read the hashes in place, so the {@link #value()} of this vector must not be modified during iteration.
+   *
+   * @return An {@link Iterable} of {@link Entry}.
+   */
+  public Iterable<Entry> entries() {
+    return () -> new Iterator<Entry>() {
+      private final Entry entry = value().read(Entry::new);
+      private final int size = size();
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public Entry next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        entry.index = next++;
+        return entry;
+      }
+    };
+  }
+
+  private UnsignedByteArray slice(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
     }
-    return new Vector256Type(byteList);
+    return value().slice(index * WIDTH, (index + 1) * WIDTH);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
-    List<JsonNode> values = new ArrayList<>();
-    while (parser.hasMore()) {
-      UnsignedByteArray bytes = parser.read(32);
-      values.add(new TextNode(bytes.hexValue()));
+    JsonNodeFactory nodeFactory = BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory();
+    ArrayNode values = nodeFactory.arrayNode(size());
+    for (String hash : toHexList()) {
+      values.add(hash);
+    }
+    return values;
+  }
+
+  /**
+   * A reusable view of one hash in a {@link Vector256Type}, returned by the iterators of {@link #entries()}.
+   */
+  public static final class Entry {
+
+    private final byte[] packed;
+    private final int offset;
+    private int index;
+
+    private Entry(byte[] packed, int offset, int length) {
+      this.packed = packed;
+      this.offset = offset;
+    }
+
+    /**
+     * The index of the hash this entry is currently positioned over.
+     *
+     * @return An int.
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * Copy the 32 bytes of the current hash into {@code destination}.
+     *
+     * @param destination       A byte array to copy into.
+     * @param destinationOffset The index in {@code destination} to start copying to.
+     */
+    public void copyTo(byte[] destination, int destinationOffset) {
+      System.arraycopy(packed, offset + index * WIDTH, destination, destinationOffset, WIDTH);
+    }
+
+    /**
+     * Write the current hash as 64 upper-case hex characters into {@code destination}.
+     *
+     * @param destination       A char array to write into.
+     * @param destinationOffset The index in {@code destination} to start writing at.
+     *
+     * @return The index in {@code destination} just after the last character written.
+     */
+    public int writeHex(char[] destination, int destinationOffset) {
+      return HexUtils.encode(packed, offset + index * WIDTH, WIDTH, destination, destinationOffset);
+    }
+
+    /**
+     * The current hash as an upper-case hex {@link String}.
+     *
+     * @return A 64 character hex {@link String}.
+     */
+    public String hexValue() {
+      return HexUtils.encode(packed, offset + index * WIDTH, WIDTH);
+    }
+
+    @Override
+    public String toString() {
+      return hexValue();
     }
-    return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
 }
@@ -20,11 +20,13 @@ package org.xrpl.xrpl4j.crypto;
  * =========================LICENSE_END==================================
  */
 
-import static java.util.Arrays.copyOfRange;
-
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.signing.SignedTransaction;
 
 import java.util.Objects;
 
@@ -33,6 +35,9 @@ import java.util.Objects;
  */
 public class HashingUtils {
 
+  private static final byte[] SIGNED_TRANSACTION_HASH_PREFIX_BYTES =
+    BaseEncoding.base16().decode(SignedTransaction.SIGNED_TRANSACTION_HASH_PREFIX);
+
   /**
    * Compute a SHA-512 hash of the given bytes and return the first half of the result.
    *
@@ -42,7 +47,26 @@ public class HashingUtils {
    */
   public static UnsignedByteArray sha512Half(final UnsignedByteArray bytes) {
     Objects.requireNonNull(bytes);
-    return sha512Half(bytes.toByteArray());
+    final Hasher hasher = Hashing.sha512().newHasher();
+    bytes.writeTo(hasher::putBytes);
+    return firstHalf(hasher.hash());
+  }
+
+  /**
+   * Compute a SHA-512 hash of {@code prefix} followed by {@code bytes} and return the first half of the result. This is
+   * the same as hashing the concatenation of the two, without building it.
+   *
+   * @param prefix A byte array, such as an XRPL hash prefix, to hash before {@code bytes}.
+   * @param bytes  The bytes to half hash.
+   *
+   * @return An {@link UnsignedByteArray} containing the first half of the SHA-512 hash of prefix and bytes.
+   */
+  public static UnsignedByteArray sha512Half(final byte[] prefix, final UnsignedByteArray bytes) {
+    Objects.requireNonNull(prefix);
+    Objects.requireNonNull(bytes);
+    final Hasher hasher = Hashing.sha512().newHasher().putBytes(prefix);
+    bytes.writeTo(hasher::putBytes);
+    return firstHalf(hasher.hash());
   }
 
   /**
@@ -54,7 +78,25 @@ public class HashingUtils {
    */
   public static UnsignedByteArray sha512Half(final byte[] bytes) {
     Objects.requireNonNull(bytes);
-    return UnsignedByteArray.of(copyOfRange(Hashing.sha512().hashBytes(bytes).asBytes(), 0, 32));
+    return firstHalf(Hashing.sha512().hashBytes(bytes));
+  }
+
+  /**
+   * Compute the hash of a signed transaction, which is the SHA-512 half of
+   * {@link SignedTransaction#SIGNED_TRANSACTION_HASH_PREFIX} followed by the signed transaction's bytes.
+   *
+   * @param signedTransactionBytes The binary encoding of a signed transaction.
+   *
+   * @return An {@link UnsignedByteArray} containing the transaction hash.
+   */
+  public static UnsignedByteArray signedTransactionHash(final UnsignedByteArray signedTransactionBytes) {
+    return sha512Half(SIGNED_TRANSACTION_HASH_PREFIX_BYTES, signedTransactionBytes);
+  }
+
+  private static UnsignedByteArray firstHalf(final HashCode sha512) {
+    final byte[] half = new byte[32];
+    sha512.writeBytesTo(half, 0, half.length);
+    return UnsignedByteArray.of(half);
   }
 
   /**
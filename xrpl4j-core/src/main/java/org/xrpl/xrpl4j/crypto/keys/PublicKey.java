@@ -24,7 +24,6 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.Lists;
 import com.google.common.hash.Hashing;
-import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedInteger;
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.immutables.value.Value.Derived;
@@ -33,6 +32,7 @@ import org.immutables.value.Value.Lazy;
 import org.xrpl.xrpl4j.codec.addresses.AddressBase58;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
+import org.xrpl.xrpl4j.codec.addresses.HexUtils;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.PublicKeyCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
@@ -109,7 +109,7 @@ public interface PublicKey {
     }
 
     return PublicKey.builder()
-      .value(UnsignedByteArray.of(BaseEncoding.base16().decode(base16EncodedPublicKey.toUpperCase())))
+      .value(UnsignedByteArray.of(HexUtils.decode(base16EncodedPublicKey)))
       .build();
   }
 
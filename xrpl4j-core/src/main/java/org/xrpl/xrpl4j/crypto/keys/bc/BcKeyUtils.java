@@ -22,16 +22,19 @@ package org.xrpl.xrpl4j.crypto.keys.bc;
 
 import static org.xrpl.xrpl4j.codec.addresses.KeyType.ED25519;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import com.google.common.io.BaseEncoding;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
-import org.bouncycastle.jce.ECNamedCurveTable;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
 import org.bouncycastle.math.ec.ECPoint;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
@@ -49,8 +52,14 @@ import java.util.Objects;
  */
 public final class BcKeyUtils {
 
+  /**
+   * The maximum number of decoded secp256k1 public keys held by {@link #toEcPublicKeyParameters(PublicKey)}.
+   */
+  public static final int EC_PUBLIC_KEY_CACHE_SIZE = 4_096;
+
   private static final String SECP256K1 = "secp256k1";
-  private static final ECNamedCurveParameterSpec EC_PARAMS = ECNamedCurveTable.getParameterSpec(SECP256K1);
+  // The custom secp256k1 curve has specialized field arithmetic and multiplies using the GLV endomorphism.
+  private static final X9ECParameters EC_PARAMS = CustomNamedCurves.getByName(SECP256K1);
   public static final ECDomainParameters PARAMS =
     new ECDomainParameters(
       EC_PARAMS.getCurve(),
@@ -59,6 +68,13 @@ public final class BcKeyUtils {
       EC_PARAMS.getH()
     );
 
+  // Decoding a compressed point costs a modular square root, and BouncyCastle attaches the wNAF tables it builds while
+  // verifying to the point itself, so keeping decoded points around lets signatures from the same key reuse both.
+  private static final Cache<PublicKey, ECPublicKeyParameters> EC_PUBLIC_KEY_CACHE = Caffeine.newBuilder()
+    .maximumSize(EC_PUBLIC_KEY_CACHE_SIZE)
+    .recordStats()
+    .build();
+
   static {
     if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
       final BouncyCastleProvider bcProvider = new BouncyCastleProvider();
@@ -210,7 +226,8 @@ public final class BcKeyUtils {
   }
 
   /**
-   * Convert from a {@link PublicKey} to a {@link ECPublicKeyParameters}.
+   * Convert from a {@link PublicKey} to a {@link ECPublicKeyParameters}. Decoded keys are cached, so repeated calls
+   * with the same key return the same instance.
    *
    * @param publicKey A {@link PublicKey} with
    *
@@ -220,9 +237,21 @@ public final class BcKeyUtils {
     Objects.requireNonNull(publicKey);
     Preconditions.checkArgument(publicKey.keyType() == KeyType.SECP256K1);
 
-    ECPoint ecPoint = PARAMS.getCurve()
-      .decodePoint(publicKey.value().toByteArray());
-    return new ECPublicKeyParameters(ecPoint, PARAMS);
+    return EC_PUBLIC_KEY_CACHE.get(publicKey, $ -> {
+      ECPoint ecPoint = PARAMS.getCurve()
+        .decodePoint(publicKey.value().toByteArray());
+      return new ECPublicKeyParameters(ecPoint, PARAMS);
+    });
+  }
+
+  /**
+   * Hit and miss statistics for the cache that {@link #toEcPublicKeyParameters(PublicKey)} keeps decoded secp256k1
+   * public keys in.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public static CacheStats ecPublicKeyCacheStats() {
+    return EC_PUBLIC_KEY_CACHE.stats();
   }
 
   /**
@@ -29,8 +29,11 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that subclasses can utilize.
@@ -101,6 +104,13 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
     return this.abstractTransactionSigner.sign(privateKeyable, unsignedClaim);
   }
 
+  @Override
+  public <T extends Transaction> Map<P, List<SigningResult<T>>> signAll(
+    final Map<P, List<T>> transactions, final Executor executor
+  ) {
+    return this.abstractTransactionSigner.signAll(transactions, executor);
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(final P privateKeyable, final T transaction) {
     return abstractTransactionSigner.multiSign(privateKeyable, transaction);
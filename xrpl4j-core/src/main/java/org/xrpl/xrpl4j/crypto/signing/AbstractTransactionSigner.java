@@ -28,7 +28,11 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that subclasses can utilize.
@@ -67,6 +71,51 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     return this.signingHelper(privateKeyable, signableBytes);
   }
 
+  /**
+   * Sign the transactions mapped to each key with that key using the single-sign mechanism. The public key of each
+   * {@link P} is derived once per batch rather than once per transaction.
+   *
+   * @param transactions A {@link Map} of each {@link P} to the {@link Transaction}s to sign with it.
+   * @param executor     An {@link Executor} to sign chunks of large batches on.
+   * @param <T>          The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link Map}, in the iteration order of {@code transactions}, of each {@link P} to a {@link SigningResult}
+   *   for each of its transactions, in the same order.
+   */
+  @Override
+  public <T extends Transaction> Map<P, List<SigningResult<T>>> signAll(
+    final Map<P, List<T>> transactions, final Executor executor
+  ) {
+    Objects.requireNonNull(transactions);
+    Objects.requireNonNull(executor);
+
+    // A key whose public key cannot be derived fails each of its transactions rather than the whole batch.
+    final Map<P, PublicKey> publicKeys = new HashMap<>();
+    final Map<P, RuntimeException> keyErrors = new HashMap<>();
+    for (P privateKeyable : transactions.keySet()) {
+      try {
+        publicKeys.put(privateKeyable, derivePublicKey(Objects.requireNonNull(privateKeyable)));
+      } catch (RuntimeException e) {
+        keyErrors.put(privateKeyable, e);
+      }
+    }
+
+    return Batches.signAll(
+      transactions,
+      (privateKeyable, transaction) -> {
+        if (keyErrors.containsKey(privateKeyable)) {
+          throw keyErrors.get(privateKeyable);
+        }
+        final UnsignedByteArray signableTransactionBytes = this.signatureUtils.toSignableBytes(transaction);
+        final Signature signature = this.signingHelper(
+          privateKeyable, publicKeys.get(privateKeyable), signableTransactionBytes
+        );
+        return this.signatureUtils.addSignatureToTransaction(transaction, signature);
+      },
+      executor
+    );
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(final P privateKeyable, final T transaction) {
     Objects.requireNonNull(privateKeyable);
@@ -92,7 +141,22 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final PublicKey publicKey = derivePublicKey(privateKey);
+    return this.signingHelper(privateKey, derivePublicKey(privateKey), signableTransactionBytes);
+  }
+
+  /**
+   * Helper to generate a signature based upon an {@link UnsignedByteArray} of transaction bytes, using the already
+   * derived public key of {@code privateKey} to select the signing algorithm.
+   *
+   * @param privateKey               A {@link PrivateKeyReference} for the signing key.
+   * @param publicKey                The {@link PublicKey} corresponding to {@code privateKey}.
+   * @param signableTransactionBytes A {@link UnsignedByteArray} of transaction bytes.
+   *
+   * @return A {@link Signature}.
+   */
+  private Signature signingHelper(
+    final P privateKey, final PublicKey publicKey, final UnsignedByteArray signableTransactionBytes
+  ) {
     switch (publicKey.keyType()) {
       case ED25519: {
         return this.edDsaSign(privateKey, signableTransactionBytes);
@@ -21,6 +21,7 @@ package org.xrpl.xrpl4j.crypto.signing;
  */
 
 import com.google.common.base.Preconditions;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.transactions.Signer;
@@ -34,6 +35,8 @@ import java.util.Set;
  */
 public abstract class AbstractTransactionVerifier implements TransactionVerifier {
 
+  private static final AddressCodec ADDRESS_CODEC = AddressCodec.getInstance();
+
   private final SignatureUtils signatureUtils;
 
   /**
@@ -76,13 +79,19 @@ public abstract class AbstractTransactionVerifier implements TransactionVerifier
     Objects.requireNonNull(unsignedTransaction);
     Preconditions.checkArgument(minSigners > 0);
 
+    // The signed bytes differ between signers only in the trailing AccountID, so the transaction is encoded once.
+    final UnsignedByteArray bytesWithoutSigner =
+      this.getSignatureUtils().toMultiSignableBytesWithoutSigner(unsignedTransaction);
+
     final long numValidSignatures = signerSet.stream()
       .map(signer -> {
         // Check signature against all public keys, hoping for a valid verification against one.
-        final UnsignedByteArray unsignedTransactionBytes =
-          this.getSignatureUtils().toMultiSignableBytes(
-            unsignedTransaction, signer.signingPublicKey().deriveAddress()
-          );
+        final UnsignedByteArray signerAccountId =
+          ADDRESS_CODEC.decodeAccountId(signer.signingPublicKey().deriveAddress());
+        final UnsignedByteArray unsignedTransactionBytes = UnsignedByteArray
+          .withCapacity(bytesWithoutSigner.length() + signerAccountId.length())
+          .append(bytesWithoutSigner)
+          .append(signerAccountId);
         final boolean oneValidSignature = verifyHelper(signer, unsignedTransactionBytes);
         return oneValidSignature;
       })
@@ -0,0 +1,148 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.binary.internal.ParallelRanges;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Signs and verifies batches of transactions for {@link TransactionSigner#signAll(Map, Executor)},
+ * {@link TransactionVerifier#verifyAll(List, Executor)} and their implementations.
+ */
+final class Batches {
+
+  /**
+   * The smallest number of transactions signed or verified by a single batch task. Batches no larger than this are
+   * processed on the calling thread.
+   */
+  private static final int MIN_BATCH_CHUNK_SIZE = 16;
+
+  private Batches() {
+  }
+
+  /**
+   * Signs every transaction in {@code transactions} with {@code signer}, as described in
+   * {@link #mapAll(List, Function, Executor)}. A transaction that cannot be signed is reported in its
+   * {@link SigningResult}.
+   *
+   * @param transactions A {@link Map} of keys to the transactions to sign with each key.
+   * @param signer       A {@link BiFunction} that signs one transaction with one key.
+   * @param executor     An {@link Executor} to sign chunks of large batches on.
+   * @param <K>          The type of key.
+   * @param <T>          The type of {@link Transaction} to sign.
+   *
+   * @return A {@link Map}, in the iteration order of {@code transactions}, of each key to the {@link SigningResult}s
+   *   of its transactions, in the same order as the transactions.
+   */
+  static <K, T extends Transaction> Map<K, List<SigningResult<T>>> signAll(
+    final Map<K, List<T>> transactions,
+    final BiFunction<K, T, SingleSignedTransaction<T>> signer,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(transactions);
+    Objects.requireNonNull(signer);
+    Objects.requireNonNull(executor);
+
+    final List<Map.Entry<K, T>> keyedTransactions = new ArrayList<>();
+    transactions.forEach((key, keyTransactions) -> {
+      Objects.requireNonNull(key);
+      for (T transaction : keyTransactions) {
+        keyedTransactions.add(new AbstractMap.SimpleImmutableEntry<>(key, Objects.requireNonNull(transaction)));
+      }
+    });
+
+    final List<SigningResult<T>> results = mapAll(
+      keyedTransactions,
+      keyedTransaction -> {
+        try {
+          return SigningResult.success(signer.apply(keyedTransaction.getKey(), keyedTransaction.getValue()));
+        } catch (RuntimeException e) {
+          return SigningResult.failure(keyedTransaction.getValue(), e);
+        }
+      },
+      executor
+    );
+
+    final Map<K, List<SigningResult<T>>> resultsByKey = new LinkedHashMap<>();
+    int index = 0;
+    for (Map.Entry<K, List<T>> entry : transactions.entrySet()) {
+      final int count = entry.getValue().size();
+      resultsByKey.put(entry.getKey(), Collections.unmodifiableList(results.subList(index, index + count)));
+      index += count;
+    }
+    return Collections.unmodifiableMap(resultsByKey);
+  }
+
+  /**
+   * Applies {@code function} to every element of {@code items}, splitting large batches into contiguous chunks that
+   * are processed concurrently on {@code executor} as described in
+   * {@link ParallelRanges#forEachRange(int, int, Executor, ParallelRanges.RangeTask)}.
+   *
+   * @param items    A {@link List} of items to process.
+   * @param function A {@link Function} to apply to each item.
+   * @param executor An {@link Executor} to process chunks of large batches on.
+   * @param <I>      The type of item.
+   * @param <R>      The type of result.
+   *
+   * @return A {@link List} containing the result for each of {@code items}, in the same order.
+   */
+  static <I, R> List<R> mapAll(
+    final List<? extends I> items, final Function<I, R> function, final Executor executor
+  ) {
+    Objects.requireNonNull(items);
+    Objects.requireNonNull(function);
+    Objects.requireNonNull(executor);
+
+    final int size = items.size();
+    final Object[] results = new Object[size];
+    ParallelRanges.forEachRange(
+      size, MIN_BATCH_CHUNK_SIZE, executor, (from, to) -> mapRange(items, from, to, function, results)
+    );
+
+    @SuppressWarnings("unchecked")
+    final List<R> resultList = (List<R>) Arrays.asList(results);
+    return Collections.unmodifiableList(resultList);
+  }
+
+  /**
+   * Applies {@code function} to {@code items[from, to)}, storing the result for each in {@code results}.
+   */
+  private static <I, R> void mapRange(
+    final List<? extends I> items, final int from, final int to, final Function<I, R> function, final Object[] results
+  ) {
+    for (int i = from; i < to; i++) {
+      results[i] = function.apply(items.get(i));
+    }
+  }
+
+}
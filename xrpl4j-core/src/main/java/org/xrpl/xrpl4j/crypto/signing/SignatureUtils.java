@@ -21,9 +21,11 @@ package org.xrpl.xrpl4j.crypto.signing;
  */
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionBinaryEncoder;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
@@ -63,6 +65,7 @@ import org.xrpl.xrpl4j.model.transactions.TicketCreate;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 import org.xrpl.xrpl4j.model.transactions.TrustSet;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -72,8 +75,9 @@ import java.util.Objects;
 public class SignatureUtils {
 
   private static final SignatureUtils INSTANCE = new SignatureUtils(
-    ObjectMapperFactory.create(),
-    XrplBinaryCodec.getInstance()
+    ObjectMapperFactory.getObjectMapper(),
+    XrplBinaryCodec.getInstance(),
+    TransactionBinaryEncoder.getInstance()
   );
 
   /**
@@ -87,6 +91,7 @@ public class SignatureUtils {
 
   private final ObjectMapper objectMapper;
   private final XrplBinaryCodec binaryCodec;
+  private final TransactionBinaryEncoder transactionEncoder;
 
   /**
    * Required-args constructor.
@@ -95,8 +100,24 @@ public class SignatureUtils {
    * @param binaryCodec  A {@link XrplBinaryCodec}.
    */
   public SignatureUtils(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
+    this(objectMapper, binaryCodec, new TransactionBinaryEncoder(objectMapper, binaryCodec));
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper       A {@link ObjectMapper}.
+   * @param binaryCodec        A {@link XrplBinaryCodec}.
+   * @param transactionEncoder A {@link TransactionBinaryEncoder} used to encode transactions for single-signing.
+   */
+  public SignatureUtils(
+    final ObjectMapper objectMapper,
+    final XrplBinaryCodec binaryCodec,
+    final TransactionBinaryEncoder transactionEncoder
+  ) {
     this.objectMapper = Objects.requireNonNull(objectMapper);
     this.binaryCodec = Objects.requireNonNull(binaryCodec);
+    this.transactionEncoder = Objects.requireNonNull(transactionEncoder);
   }
 
   /**
@@ -108,13 +129,7 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return transactionEncoder.encodeForSigning(transaction, UnsignedByteArray.empty());
   }
 
   /**
@@ -149,10 +164,30 @@ public class SignatureUtils {
     Objects.requireNonNull(signerAddress);
 
     try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress.value());
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
+      final JsonNode unsignedJson = objectMapper.readTree(objectMapper.writeValueAsBytes(transaction));
+      return binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress.value(), UnsignedByteArray.empty());
+    } catch (IOException e) {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Helper method to convert a {@link Transaction} into the bytes that are common to every signer of a multi-signed
+   * transaction. Appending a signer's 20-byte AccountID to these bytes yields the bytes returned by
+   * {@link #toMultiSignableBytes(Transaction, Address)} for that signer, so a transaction with several signers only
+   * needs to be encoded once.
+   *
+   * @param transaction A {@link Transaction} to be signed.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray toMultiSignableBytesWithoutSigner(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+
+    try {
+      final JsonNode unsignedJson = objectMapper.readTree(objectMapper.writeValueAsBytes(transaction));
+      return binaryCodec.encodeForMultiSigningWithoutSigner(unsignedJson, UnsignedByteArray.empty());
+    } catch (IOException e) {
       throw new RuntimeException(e.getMessage(), e);
     }
   }
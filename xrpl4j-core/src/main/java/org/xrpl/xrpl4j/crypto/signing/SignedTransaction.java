@@ -20,18 +20,13 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.google.common.hash.Hashing;
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
-import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.TransactionBinaryEncoder;
+import org.xrpl.xrpl4j.crypto.HashingUtils;
 import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
-import java.util.Arrays;
-
 /**
  * Holds the bytes for a multi-signed XRPL transaction.
  *
@@ -65,13 +60,7 @@ public interface SignedTransaction<T extends Transaction> {
    */
   @Value.Derived
   default UnsignedByteArray signedTransactionBytes() {
-    try {
-      return UnsignedByteArray.fromHex(
-        XrplBinaryCodec.getInstance().encode(ObjectMapperFactory.create().writeValueAsString(signedTransaction()))
-      );
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return TransactionBinaryEncoder.getInstance().encode(signedTransaction(), UnsignedByteArray.empty());
   }
 
   /**
@@ -83,15 +72,7 @@ public interface SignedTransaction<T extends Transaction> {
    */
   @Value.Derived
   default Hash256 hash() {
-    byte[] hashBytes = Arrays.copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(
-          SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBytes().hexValue()).toUpperCase()
-        )).asBytes(),
-      0,
-      32 // <-- SHA512 Half is the first 32 bytes of the SHA512 hash.
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    return Hash256.of(HashingUtils.signedTransactionHash(signedTransactionBytes()).hexValue());
   }
 
 }
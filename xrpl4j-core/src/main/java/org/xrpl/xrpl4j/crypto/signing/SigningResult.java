@@ -0,0 +1,124 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.crypto.keys.PrivateKeyable;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.Optional;
+
+/**
+ * The outcome of signing one transaction of a batch passed to
+ * {@link TransactionSigner#signAll(PrivateKeyable, java.util.List)}. Exactly one of {@link #signedTransaction()} and
+ * {@link #error()} is present, so that a failure to sign one transaction does not prevent the rest of the batch from
+ * being signed.
+ *
+ * @param <T> The type of {@link Transaction} that was signed.
+ */
+@Value.Immutable
+public interface SigningResult<T extends Transaction> {
+
+  /**
+   * A builder.
+   *
+   * @param <T> An instance of {@link Transaction}.
+   *
+   * @return An {@link ImmutableSigningResult.Builder}.
+   */
+  static <T extends Transaction> ImmutableSigningResult.Builder<T> builder() {
+    return ImmutableSigningResult.builder();
+  }
+
+  /**
+   * Construct a {@link SigningResult} for a transaction that was signed successfully.
+   *
+   * @param signedTransaction The {@link SingleSignedTransaction}.
+   * @param <T>               The type of {@link Transaction} that was signed.
+   *
+   * @return A {@link SigningResult}.
+   */
+  static <T extends Transaction> SigningResult<T> success(final SingleSignedTransaction<T> signedTransaction) {
+    return SigningResult.<T>builder()
+      .unsignedTransaction(signedTransaction.unsignedTransaction())
+      .signedTransaction(signedTransaction)
+      .build();
+  }
+
+  /**
+   * Construct a {@link SigningResult} for a transaction that could not be signed.
+   *
+   * @param unsignedTransaction The {@link Transaction} that could not be signed.
+   * @param error               The {@link RuntimeException} thrown while signing {@code unsignedTransaction}.
+   * @param <T>                 The type of {@link Transaction} that could not be signed.
+   *
+   * @return A {@link SigningResult}.
+   */
+  static <T extends Transaction> SigningResult<T> failure(final T unsignedTransaction, final RuntimeException error) {
+    return SigningResult.<T>builder()
+      .unsignedTransaction(unsignedTransaction)
+      .error(error)
+      .build();
+  }
+
+  /**
+   * The transaction that was to be signed.
+   *
+   * @return A {@link T}.
+   */
+  T unsignedTransaction();
+
+  /**
+   * The signed transaction, if signing succeeded.
+   *
+   * @return An optionally-present {@link SingleSignedTransaction}.
+   */
+  Optional<SingleSignedTransaction<T>> signedTransaction();
+
+  /**
+   * The exception thrown while signing, if signing failed.
+   *
+   * @return An optionally-present {@link RuntimeException}.
+   */
+  Optional<RuntimeException> error();
+
+  /**
+   * Whether {@link #unsignedTransaction()} was signed successfully.
+   *
+   * @return {@code true} if {@link #signedTransaction()} is present; {@code false} otherwise.
+   */
+  default boolean isSuccess() {
+    return signedTransaction().isPresent();
+  }
+
+  /**
+   * Validates that exactly one of {@link #signedTransaction()} and {@link #error()} is present.
+   */
+  @Value.Check
+  default void checkOutcome() {
+    Preconditions.checkState(
+      signedTransaction().isPresent() != error().isPresent(),
+      "Exactly one of signedTransaction or error must be present."
+    );
+  }
+
+}
@@ -26,7 +26,12 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Defines how to sign an XRPL transaction using private key material supplied by the caller.
@@ -66,6 +71,75 @@ public interface TransactionSigner<P extends PrivateKeyable> {
    */
   Signature sign(P privateKeyable, UnsignedClaim unsignedClaim);
 
+  /**
+   * Sign each of {@code transactions} with {@code privateKeyable} using the single-sign mechanism, using the common
+   * {@link ForkJoinPool} to sign large batches in parallel.
+   *
+   * @param privateKeyable The {@link P} used to sign {@code transactions}.
+   * @param transactions   A {@link List} of {@link Transaction}s to sign.
+   * @param <T>            The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link List} containing a {@link SigningResult} for each of {@code transactions}, in the same order.
+   */
+  default <T extends Transaction> List<SigningResult<T>> signAll(P privateKeyable, List<T> transactions) {
+    return signAll(privateKeyable, transactions, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Sign each of {@code transactions} with {@code privateKeyable} using the single-sign mechanism. Large batches are
+   * split into contiguous chunks that are signed concurrently on {@code executor}; small batches are signed on the
+   * calling thread. A transaction that cannot be signed is reported in its {@link SigningResult} and does not prevent
+   * the rest of the batch from being signed.
+   *
+   * @param privateKeyable The {@link P} used to sign {@code transactions}.
+   * @param transactions   A {@link List} of {@link Transaction}s to sign.
+   * @param executor       An {@link Executor} to sign chunks of large batches on.
+   * @param <T>            The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link List} containing a {@link SigningResult} for each of {@code transactions}, in the same order.
+   */
+  default <T extends Transaction> List<SigningResult<T>> signAll(
+    P privateKeyable, List<T> transactions, Executor executor
+  ) {
+    Objects.requireNonNull(privateKeyable);
+    Objects.requireNonNull(transactions);
+    return signAll(Collections.singletonMap(privateKeyable, transactions), executor).get(privateKeyable);
+  }
+
+  /**
+   * Sign the transactions mapped to each key with that key using the single-sign mechanism, using the common
+   * {@link ForkJoinPool} to sign large batches in parallel.
+   *
+   * @param transactions A {@link Map} of each {@link P} to the {@link Transaction}s to sign with it.
+   * @param <T>          The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link Map}, in the iteration order of {@code transactions}, of each {@link P} to a {@link SigningResult}
+   *   for each of its transactions, in the same order.
+   */
+  default <T extends Transaction> Map<P, List<SigningResult<T>>> signAll(Map<P, List<T>> transactions) {
+    return signAll(transactions, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Sign the transactions mapped to each key with that key using the single-sign mechanism. Transactions for all keys
+   * are batched together and signed as described in {@link #signAll(PrivateKeyable, List, Executor)}.
+   *
+   * <p>This default implementation calls {@link #sign(PrivateKeyable, Transaction)} for every transaction.
+   * Implementations should override it to resolve each key only once per batch.</p>
+   *
+   * @param transactions A {@link Map} of each {@link P} to the {@link Transaction}s to sign with it.
+   * @param executor     An {@link Executor} to sign chunks of large batches on.
+   * @param <T>          The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link Map}, in the iteration order of {@code transactions}, of each {@link P} to a {@link SigningResult}
+   *   for each of its transactions, in the same order.
+   */
+  default <T extends Transaction> Map<P, List<SigningResult<T>>> signAll(
+    Map<P, List<T>> transactions, Executor executor
+  ) {
+    return Batches.signAll(transactions, this::sign, executor);
+  }
+
   /**
    * Obtain a signature for the supplied unsigned transaction using the supplied {@link P}. The primary reason this
    * method's signature diverges from {@link #sign(PrivateKeyable, Transaction)} is that for multi-sign scenarios, the
@@ -23,7 +23,11 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Defines how to verify an XRPL transaction using public key material supplied by the caller.
@@ -76,4 +80,45 @@ public interface TransactionVerifier {
     Set<Signer> signerSet, T unsignedTransaction, int minSigners
   );
 
+  /**
+   * Verify the signature of each of {@code signedTransactions}, using the common {@link ForkJoinPool} to verify large
+   * batches in parallel.
+   *
+   * @param signedTransactions A {@link List} of {@link SingleSignedTransaction}s to verify.
+   *
+   * @return A {@link List} containing, for each of {@code signedTransactions} in the same order, {@code true} if its
+   *   signature is valid and verified; {@code false} otherwise.
+   */
+  default List<Boolean> verifyAll(List<? extends SingleSignedTransaction<?>> signedTransactions) {
+    return verifyAll(signedTransactions, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verify the signature of each of {@code signedTransactions} against the signing public key of its transaction, as
+   * with {@link #verify(Signer, Transaction)}. Large batches are split into contiguous chunks that are verified
+   * concurrently on {@code executor}; small batches are verified on the calling thread. A transaction whose signature
+   * cannot be checked at all, for example because its public key is malformed, fails the batch with the exception
+   * that {@link #verify(Signer, Transaction)} would have thrown for it.
+   *
+   * @param signedTransactions A {@link List} of {@link SingleSignedTransaction}s to verify.
+   * @param executor           An {@link Executor} to verify chunks of large batches on.
+   *
+   * @return A {@link List} containing, for each of {@code signedTransactions} in the same order, {@code true} if its
+   *   signature is valid and verified; {@code false} otherwise.
+   */
+  default List<Boolean> verifyAll(List<? extends SingleSignedTransaction<?>> signedTransactions, Executor executor) {
+    Objects.requireNonNull(signedTransactions);
+    return Batches.<SingleSignedTransaction<?>, Boolean>mapAll(
+      signedTransactions,
+      signedTransaction -> {
+        final Signer signer = Signer.builder()
+          .signingPublicKey(signedTransaction.unsignedTransaction().signingPublicKey())
+          .transactionSignature(signedTransaction.signature())
+          .build();
+        return verify(signer, signedTransaction.unsignedTransaction());
+      },
+      executor
+    );
+  }
+
 }
@@ -32,6 +32,7 @@ import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.ServerSecret;
 import org.xrpl.xrpl4j.crypto.ServerSecretSupplier;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
@@ -41,17 +42,24 @@ import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
 import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
+import org.xrpl.xrpl4j.crypto.signing.AbstractTransactionSigner;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureService;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.crypto.signing.SigningResult;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * An implementation of {@link SignatureService} that uses an in-memory secret value to deterministically create a seed
@@ -101,8 +109,8 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
 
     this.commonBcSignatureService = new BcSignatureService(
       SignatureUtils.getInstance(),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
@@ -127,6 +135,28 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     return getTransactionSigner(privateKeyReference).sign(unsignedClaim);
   }
 
+  /**
+   * Sign the transactions mapped to each key with that key using the single-sign mechanism. Each
+   * {@link PrivateKeyReference} is resolved to its derived key pair once per batch.
+   *
+   * @param transactions A {@link Map} of each {@link PrivateKeyReference} to the {@link Transaction}s to sign with it.
+   * @param executor     An {@link Executor} to sign chunks of large batches on.
+   * @param <T>          The type of {@link Transaction} to be signed.
+   *
+   * @return A {@link Map}, in the iteration order of {@code transactions}, of each {@link PrivateKeyReference} to a
+   *   {@link SigningResult} for each of its transactions, in the same order.
+   */
+  @Override
+  public <T extends Transaction> Map<PrivateKeyReference, List<SigningResult<T>>> signAll(
+    final Map<PrivateKeyReference, List<T>> transactions, final Executor executor
+  ) {
+    Objects.requireNonNull(transactions);
+    Objects.requireNonNull(executor);
+
+    // A fresh signer per batch, so that its resolved keys are only held for as long as the batch is being signed.
+    return new BatchTransactionSigner(this::getTransactionSigner).signAll(transactions, executor);
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(
     final PrivateKeyReference privateKeyReference, final T transaction
@@ -269,6 +299,48 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     return this.transactionSignerCache.get(privateKeyReference);
   }
 
+  /**
+   * A transaction signer for a single {@link #signAll(Map, Executor)} batch. {@link AbstractTransactionSigner} derives
+   * the public key of each {@link PrivateKeyReference} once per batch, recording any failure against that key, so
+   * the {@link BcSingleKeyTransactionSigner} resolved while doing so is kept and reused for each of that key's
+   * transactions.
+   */
+  private static class BatchTransactionSigner extends AbstractTransactionSigner<PrivateKeyReference> {
+
+    private final Function<PrivateKeyReference, BcSingleKeyTransactionSigner> transactionSignerResolver;
+    private final Map<PrivateKeyReference, BcSingleKeyTransactionSigner> transactionSigners = new ConcurrentHashMap<>();
+
+    BatchTransactionSigner(
+      final Function<PrivateKeyReference, BcSingleKeyTransactionSigner> transactionSignerResolver
+    ) {
+      super(SignatureUtils.getInstance());
+      this.transactionSignerResolver = Objects.requireNonNull(transactionSignerResolver);
+    }
+
+    @Override
+    protected Signature edDsaSign(
+      final PrivateKeyReference privateKey, final UnsignedByteArray signableTransactionBytes
+    ) {
+      return getTransactionSigner(privateKey).edDsaSign(signableTransactionBytes);
+    }
+
+    @Override
+    protected Signature ecDsaSign(
+      final PrivateKeyReference privateKey, final UnsignedByteArray signableTransactionBytes
+    ) {
+      return getTransactionSigner(privateKey).ecDsaSign(signableTransactionBytes);
+    }
+
+    @Override
+    public PublicKey derivePublicKey(final PrivateKeyReference privateKey) {
+      return getTransactionSigner(privateKey).getPublicKey();
+    }
+
+    private BcSingleKeyTransactionSigner getTransactionSigner(final PrivateKeyReference privateKey) {
+      return transactionSigners.computeIfAbsent(privateKey, transactionSignerResolver);
+    }
+  }
+
   /**
    * <p>A transaction signer that uses BouncyCastle internally with a single private key.</p>
    *
@@ -278,10 +350,12 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
   private static class BcSingleKeyTransactionSigner {
 
     private final PrivateKey privateKey;
+    private final PublicKey publicKey;
     private final BcSignatureService bcSignatureService;
 
     public BcSingleKeyTransactionSigner(final PrivateKey privateKey, final BcSignatureService bcSignatureService) {
       this.privateKey = Objects.requireNonNull(privateKey);
+      this.publicKey = BcKeyUtils.toPublicKey(privateKey);
       this.bcSignatureService = Objects.requireNonNull(bcSignatureService);
     }
 
@@ -298,8 +372,16 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
       return bcSignatureService.multiSign(this.privateKey, transaction);
     }
 
+    public Signature edDsaSign(final UnsignedByteArray signableTransactionBytes) {
+      return bcSignatureService.edDsaSign(this.privateKey, signableTransactionBytes);
+    }
+
+    public Signature ecDsaSign(final UnsignedByteArray signableTransactionBytes) {
+      return bcSignatureService.ecDsaSign(this.privateKey, signableTransactionBytes);
+    }
+
     public PublicKey getPublicKey() {
-      return BcKeyUtils.toPublicKey(this.privateKey);
+      return this.publicKey;
     }
   }
 
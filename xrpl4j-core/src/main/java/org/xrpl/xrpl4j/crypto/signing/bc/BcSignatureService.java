@@ -29,7 +29,6 @@ import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.HashingUtils;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
@@ -39,10 +38,10 @@ import org.xrpl.xrpl4j.crypto.signing.AbstractSignatureService;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureService;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
-import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * <p>A {@link SignatureService} that uses BouncyCastle internally to sign with an in-memory instance of
@@ -51,27 +50,33 @@ import java.util.Objects;
  * <p>WARNING: This implementation utilizes in-memory private-key material. Consider instead using a
  * {@link SignatureService} that uses instance of {@link PrivateKeyReference} for improved security.</p>
  *
+ * <p>BouncyCastle signers are stateful, so each thread signs and verifies with its own {@link Ed25519Signer} and
+ * {@link ECDSASigner}, allowing a single instance of this service to be used from many threads at once.</p>
+ *
  * @see "https://www.bouncycastle.org/java.html"
  * @see "https://www.bouncycastle.org/fips-java/BCFipsIn100.pdf"
  */
 public class BcSignatureService extends AbstractSignatureService<PrivateKey> implements SignatureService<PrivateKey> {
 
-  private final Ed25519Signer ed25519Signer;
-  private final ECDSASigner ecdsaSigner;
+  // Either one shared signer (whose lock serializes every call) or one signer per thread.
+  private final Supplier<Ed25519Signer> ed25519Signers;
+  private final Supplier<ECDSASigner> ecdsaSigners;
 
   /**
    * Required-args Constructor for use in development mode.
    */
   public BcSignatureService() {
     this(
-      new SignatureUtils(ObjectMapperFactory.create(), XrplBinaryCodec.getInstance()),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      SignatureUtils.getInstance(),
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
   /**
-   * Required-args Constructor.
+   * Required-args Constructor. Every call to this service uses the two supplied signers and holds their lock while
+   * doing so, so concurrent calls are serialized; prefer
+   * {@link #BcSignatureService(SignatureUtils, Supplier, Supplier)} when signing from more than one thread.
    *
    * @param signatureUtils An {@link SignatureUtils}.
    * @param ed25519Signer  An {@link Ed25519Signer}.
@@ -83,12 +88,33 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
     final ECDSASigner ecdsaSigner
   ) {
     super(signatureUtils);
-    this.ed25519Signer = Objects.requireNonNull(ed25519Signer);
-    this.ecdsaSigner = Objects.requireNonNull(ecdsaSigner);
+    Objects.requireNonNull(ed25519Signer);
+    Objects.requireNonNull(ecdsaSigner);
+    this.ed25519Signers = () -> ed25519Signer;
+    this.ecdsaSigners = () -> ecdsaSigner;
+  }
+
+  /**
+   * Required-args Constructor. Each thread that uses this service gets its own signers from the supplied factories.
+   *
+   * @param signatureUtils        An {@link SignatureUtils}.
+   * @param ed25519SignerSupplier A {@link Supplier} of new {@link Ed25519Signer}s.
+   * @param ecdsaSignerSupplier   A {@link Supplier} of new {@link ECDSASigner}s.
+   */
+  public BcSignatureService(
+    final SignatureUtils signatureUtils,
+    final Supplier<Ed25519Signer> ed25519SignerSupplier,
+    final Supplier<ECDSASigner> ecdsaSignerSupplier
+  ) {
+    super(signatureUtils);
+    Objects.requireNonNull(ed25519SignerSupplier);
+    Objects.requireNonNull(ecdsaSignerSupplier);
+    this.ed25519Signers = ThreadLocal.withInitial(() -> Objects.requireNonNull(ed25519SignerSupplier.get()))::get;
+    this.ecdsaSigners = ThreadLocal.withInitial(() -> Objects.requireNonNull(ecdsaSignerSupplier.get()))::get;
   }
 
   @Override
-  protected synchronized Signature edDsaSign(
+  protected Signature edDsaSign(
     final PrivateKey privateKey, final UnsignedByteArray signableTransactionBytes
   ) {
     Objects.requireNonNull(privateKey);
@@ -96,13 +122,15 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
 
     final Ed25519PrivateKeyParameters privateKeyParameters = BcKeyUtils.toEd25519PrivateKeyParams(privateKey);
 
-    final byte[] signableBytes = signableTransactionBytes.toByteArray();
-
-    ed25519Signer.reset();
-    ed25519Signer.init(true, privateKeyParameters);
-    ed25519Signer.update(signableBytes, 0, signableBytes.length);
-
-    final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
+    // The lock is uncontended unless this service was constructed with a single shared signer.
+    final Ed25519Signer ed25519Signer = ed25519Signers.get();
+    final UnsignedByteArray sigBytes;
+    synchronized (ed25519Signer) {
+      ed25519Signer.reset();
+      ed25519Signer.init(true, privateKeyParameters);
+      signableTransactionBytes.writeTo(ed25519Signer::update);
+      sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
+    }
     return Signature.builder()
       .value(sigBytes)
       .build();
@@ -113,7 +141,7 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
 
   @SuppressWarnings("checkstyle:LocalVariableName")
   @Override
-  protected synchronized Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
+  protected Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(transactionBytes);
 
@@ -121,8 +149,12 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
 
     final ECPrivateKeyParameters ecPrivateKeyParams = BcKeyUtils.toEcPrivateKeyParams(privateKey);
 
-    ecdsaSigner.init(true, ecPrivateKeyParams);
-    final BigInteger[] signatures = ecdsaSigner.generateSignature(messageHash.toByteArray());
+    final ECDSASigner ecdsaSigner = ecdsaSigners.get();
+    final BigInteger[] signatures;
+    synchronized (ecdsaSigner) {
+      ecdsaSigner.init(true, ecPrivateKeyParams);
+      signatures = ecdsaSigner.generateSignature(messageHash.toByteArray());
+    }
     final BigInteger r = signatures[0];
     BigInteger s = signatures[1];
     final BigInteger otherS = BcKeyUtils.PARAMS.getN().subtract(s);
@@ -142,7 +174,7 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
   }
 
   @Override
-  protected synchronized boolean edDsaVerify(
+  protected boolean edDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
@@ -151,16 +183,18 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
 
     final Ed25519PublicKeyParameters bcPublicKey = BcKeyUtils.toEd25519PublicKeyParameters(publicKey);
 
-    ed25519Signer.reset();
-    ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(transactionBytes.toByteArray(), 0, transactionBytes.length());
-
-    return ed25519Signer.verifySignature(signature.value().toByteArray());
+    final Ed25519Signer ed25519Signer = ed25519Signers.get();
+    synchronized (ed25519Signer) {
+      ed25519Signer.reset();
+      ed25519Signer.init(false, bcPublicKey);
+      transactionBytes.writeTo(ed25519Signer::update);
+      return ed25519Signer.verifySignature(signature.value().toByteArray());
+    }
   }
 
 
   @Override
-  protected synchronized boolean ecDsaVerify(
+  protected boolean ecDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
@@ -174,8 +208,11 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
       return false;
     }
 
-    ecdsaSigner.init(false, bcPublicKey);
-    return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    final ECDSASigner ecdsaSigner = ecdsaSigners.get();
+    synchronized (ecdsaSigner) {
+      ecdsaSigner.init(false, bcPublicKey);
+      return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    }
   }
 
   @Override
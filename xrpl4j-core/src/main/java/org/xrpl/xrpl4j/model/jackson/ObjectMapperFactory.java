@@ -25,6 +25,8 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
@@ -43,9 +45,27 @@ public class ObjectMapperFactory {
    * Construct an {@link ObjectMapper} that can be used to serialize and deserialize JSON.
    *
    * @return An {@link ObjectMapper}.
+   * @deprecated Each call builds and configures a new mapper, which is expensive. Use the shared
+   *   {@link #getObjectMapper()}, {@link #reader()} or {@link #writer()} instead, or {@code getObjectMapper().copy()}
+   *   for a mapper that will be reconfigured.
    */
+  @Deprecated
   public static ObjectMapper create() {
+    return newObjectMapper();
+  }
 
+  /**
+   * Get the shared {@link ObjectMapper} that can be used to serialize and deserialize JSON. The mapper is built once
+   * and is safe to use from multiple threads, but it is shared by every caller, so it must not be reconfigured; use
+   * {@code getObjectMapper().copy()} to obtain a mapper that can be.
+   *
+   * @return An {@link ObjectMapper}.
+   */
+  public static ObjectMapper getObjectMapper() {
+    return Shared.MAPPER;
+  }
+
+  private static ObjectMapper newObjectMapper() {
     return JsonMapper.builder()
       .addModule(new Jdk8Module())
       .addModule(new GuavaModule())
@@ -60,4 +80,34 @@ public class ObjectMapperFactory {
       .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
       .build();
   }
+
+  /**
+   * Get a shared {@link ObjectReader} configured like {@link #getObjectMapper()}. Unlike an
+   * {@link ObjectMapper}, an {@link ObjectReader} is immutable, so it can be shared safely across threads.
+   *
+   * @return An {@link ObjectReader}.
+   */
+  public static ObjectReader reader() {
+    return Shared.READER;
+  }
+
+  /**
+   * Get a shared {@link ObjectWriter} configured like {@link #getObjectMapper()}. Unlike an
+   * {@link ObjectMapper}, an {@link ObjectWriter} is immutable, so it can be shared safely across threads.
+   *
+   * @return An {@link ObjectWriter}.
+   */
+  public static ObjectWriter writer() {
+    return Shared.WRITER;
+  }
+
+  /**
+   * Holds the shared mapper, reader and writer, which are only built the first time they are used.
+   */
+  private static final class Shared {
+
+    private static final ObjectMapper MAPPER = newObjectMapper();
+    private static final ObjectReader READER = MAPPER.reader();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+  }
 }
@@ -23,7 +23,7 @@ package org.xrpl.xrpl4j.model.jackson.modules;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.xrpl.xrpl4j.model.client.serverinfo.ClioServerInfo;
 import org.xrpl.xrpl4j.model.client.serverinfo.ReportingModeServerInfo;
@@ -50,15 +50,15 @@ public class ServerInfoDeserializer extends StdDeserializer<ServerInfo> {
     JsonParser jsonParser,
     DeserializationContext deserializationContext
   ) throws IOException {
-    ObjectMapper objectMapper = ObjectMapperFactory.create();
+    ObjectReader objectReader = ObjectMapperFactory.reader();
     JsonNode node = jsonParser.getCodec().readTree(jsonParser);
     ServerInfo info;
     if (node.has("clio_version")) {
-      info = objectMapper.treeToValue(node, ClioServerInfo.class);
+      info = objectReader.treeToValue(node, ClioServerInfo.class);
     } else if (node.has("reporting")) {
-      info = objectMapper.treeToValue(node, ReportingModeServerInfo.class);
+      info = objectReader.treeToValue(node, ReportingModeServerInfo.class);
     } else {
-      info = objectMapper.treeToValue(node, RippledServerInfo.class);
+      info = objectReader.treeToValue(node, RippledServerInfo.class);
     }
     return info;
   }
@@ -20,9 +20,11 @@ package org.xrpl.xrpl4j.model.transactions;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.immutables.value.Value;
+import org.xrpl.xrpl4j.codec.binary.math.IouAmount;
 
 /**
  * A {@link CurrencyAmount} for Issued Currencies on the XRP Ledger.
@@ -65,6 +67,23 @@ public interface IssuedCurrencyAmount extends CurrencyAmount {
     return ImmutableIssuedCurrencyAmount.builder();
   }
 
+  /**
+   * Construct an {@link IssuedCurrencyAmount} whose {@link #value()} is the plain decimal form of {@code value}.
+   *
+   * @param value    An {@link IouAmount} holding the value of the amount.
+   * @param currency A {@link String} containing the currency code.
+   * @param issuer   The {@link Address} of the issuer of the currency.
+   *
+   * @return An {@link IssuedCurrencyAmount}.
+   */
+  static IssuedCurrencyAmount of(final IouAmount value, final String currency, final Address issuer) {
+    return builder()
+      .value(value.toPlainString())
+      .currency(currency)
+      .issuer(issuer)
+      .build();
+  }
+
   /**
    * Quoted decimal representation of the amount of currency. This can include scientific notation, such as 1.23e11
    * meaning 123,000,000,000. Both e and E may be used. Note that while this implementation merely holds a {@link
@@ -76,6 +95,20 @@ public interface IssuedCurrencyAmount extends CurrencyAmount {
    */
   String value();
 
+  /**
+   * The {@link #value()} of this amount as an {@link IouAmount}, which supports arithmetic that matches the XRP Ledger.
+   * Use {@link #of(IouAmount, String, Address)} to build an {@link IssuedCurrencyAmount} from an {@link IouAmount}.
+   *
+   * @return An {@link IouAmount}.
+   * @throws NumberFormatException    if {@link #value()} is not a decimal number.
+   * @throws IllegalArgumentException if {@link #value()} cannot be represented on the XRP Ledger.
+   */
+  @JsonIgnore
+  @Value.Lazy
+  default IouAmount iouValue() {
+    return IouAmount.fromString(value());
+  }
+
   /**
    * Arbitrary code for currency to issue. Cannot be XRP.
    *
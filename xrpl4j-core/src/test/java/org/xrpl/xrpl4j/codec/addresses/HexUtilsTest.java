@@ -0,0 +1,108 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class HexUtilsTest {
+
+  private static final byte[] BYTES = new byte[] {0, 1, 0x7F, (byte) 0x80, (byte) 0xAB, (byte) 0xFF};
+
+  @Test
+  public void encode() {
+    assertThat(HexUtils.encode(new byte[0])).isEmpty();
+    assertThat(HexUtils.encode(BYTES)).isEqualTo("00017F80ABFF");
+    assertThat(HexUtils.encode(BYTES, 2, 3)).isEqualTo("7F80AB");
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.encode(BYTES, 0, -1));
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.encode(BYTES, -1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.encode(BYTES, 5, 2));
+    assertThrows(NullPointerException.class, () -> HexUtils.encode(null, 0, 0));
+  }
+
+  @Test
+  public void encodeToStringBuilder() {
+    StringBuilder builder = new StringBuilder("0x");
+    assertThat(HexUtils.encode(BYTES, 4, 2, builder)).isSameAs(builder);
+    assertThat(builder.toString()).isEqualTo("0xABFF");
+  }
+
+  @Test
+  public void encodeToCharArray() {
+    char[] chars = new char[6];
+    chars[0] = '[';
+    chars[5] = ']';
+    assertThat(HexUtils.encode(BYTES, 3, 2, chars, 1)).isEqualTo(5);
+    assertThat(new String(chars)).isEqualTo("[80AB]");
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.encode(BYTES, 0, 3, chars, 1));
+  }
+
+  @Test
+  public void decode() {
+    assertThat(HexUtils.decode("")).isEmpty();
+    assertThat(HexUtils.decode("00017F80ABFF")).isEqualTo(BYTES);
+    assertThat(HexUtils.decode("00017f80abff")).isEqualTo(BYTES);
+    assertThat(HexUtils.decode("00017f80AbFf")).isEqualTo(BYTES);
+    assertThat(HexUtils.decode(new StringBuilder("abff"))).isEqualTo(new byte[] {(byte) 0xAB, (byte) 0xFF});
+  }
+
+  @Test
+  public void decodeRangeIntoDestination() {
+    byte[] destination = new byte[4];
+    assertThat(HexUtils.decode("xx7f80xx", 2, 6, destination, 1)).isEqualTo(3);
+    assertThat(destination).isEqualTo(new byte[] {0, 0x7F, (byte) 0x80, 0});
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.decode("7f80", 0, 4, destination, 3));
+  }
+
+  @Test
+  public void decodeCharArray() {
+    char[] chars = "--7F80ab--".toCharArray();
+    assertThat(HexUtils.decode(chars, 2, 6)).isEqualTo(new byte[] {0x7F, (byte) 0x80, (byte) 0xAB});
+  }
+
+  @Test
+  public void decodeInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> HexUtils.decode("ABC"));
+    assertThrows(IllegalArgumentException.class, () -> HexUtils.decode("0G"));
+    assertThrows(IllegalArgumentException.class, () -> HexUtils.decode("0é"));
+    assertThrows(IllegalArgumentException.class, () -> HexUtils.decode("0 "));
+    assertThrows(IndexOutOfBoundsException.class, () -> HexUtils.decode("ABCD", 2, 6, new byte[2], 0));
+  }
+
+  @Test
+  public void matchesBaseEncoding() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100; i++) {
+      byte[] bytes = new byte[random.nextInt(64)];
+      random.nextBytes(bytes);
+      String hex = BaseEncoding.base16().encode(bytes);
+      assertThat(HexUtils.encode(bytes)).isEqualTo(hex);
+      assertThat(HexUtils.decode(hex)).isEqualTo(bytes);
+      assertThat(HexUtils.decode(BaseEncoding.base16().lowerCase().encode(bytes))).isEqualTo(bytes);
+    }
+  }
+
+}
@@ -159,6 +159,118 @@ public class UnsignedByteArrayTest {
     assertThrows(IndexOutOfBoundsException.class, () -> array1.slice(1, 5));
   }
 
+  @Test
+  void sliceSharesBytesWithParent() {
+    UnsignedByteArray parent = UnsignedByteArray.of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray slice = parent.slice(1, 3);
+    parent.set(1, UnsignedByte.of(7));
+    assertThat(slice.hexValue()).isEqualTo("0709");
+  }
+
+  @Test
+  void appendToSliceDoesNotModifyParent() {
+    UnsignedByteArray parent = UnsignedByteArray.of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray slice = parent.slice(1, 3);
+    slice.append(UnsignedByte.of(5));
+    assertThat(slice.hexValue()).isEqualTo("080905");
+    assertThat(parent.hexValue()).isEqualTo("00080901");
+  }
+
+  @Test
+  void clearReusesBackingArray() {
+    UnsignedByteArray array = UnsignedByteArray.withCapacity(4).append(new byte[] {1, 2});
+    byte[][] backing = new byte[2][];
+    array.writeTo((source, offset, length) -> backing[0] = source);
+    array.clear().append(new byte[] {3});
+    array.writeTo((source, offset, length) -> backing[1] = source);
+    assertThat(backing[1]).isSameAs(backing[0]);
+    assertThat(array.hexValue()).isEqualTo("03");
+  }
+
+  @Test
+  void clearDoesNotOverwriteEarlierSlices() {
+    UnsignedByteArray array = UnsignedByteArray.withCapacity(4).append(new byte[] {1, 2});
+    UnsignedByteArray slice = array.slice(0, 2);
+    array.clear().append(new byte[] {3, 4});
+    assertThat(slice.hexValue()).isEqualTo("0102");
+    assertThat(array.hexValue()).isEqualTo("0304");
+
+    // Slicing a view never needs a fresh array, because appending to a view always copies.
+    UnsignedByteArray view = UnsignedByteArray.of(new byte[] {5, 6, 7}).slice(0, 3);
+    UnsignedByteArray sliceOfView = view.slice(1, 3);
+    view.clear().append(new byte[] {8, 9});
+    assertThat(sliceOfView.hexValue()).isEqualTo("0607");
+    assertThat(view.hexValue()).isEqualTo("0809");
+  }
+
+  @Test
+  void wrapDoesNotCopy() {
+    byte[] bytes = new byte[] {1, 2};
+    UnsignedByteArray array = UnsignedByteArray.wrap(bytes);
+    bytes[0] = 3;
+    assertThat(array.hexValue()).isEqualTo("0302");
+    assertThrows(NullPointerException.class, () -> UnsignedByteArray.wrap(null));
+  }
+
+  @Test
+  void readSlice() {
+    UnsignedByteArray slice = UnsignedByteArray.of(new byte[] {0, 8, 9, 1}).slice(1, 3);
+    assertThat(slice.<String>read((source, offset, length) -> offset + ":" + length)).isEqualTo("1:2");
+    assertThrows(NullPointerException.class, () -> slice.read(null));
+  }
+
+  @Test
+  void writeToSlice() {
+    UnsignedByteArray parent = UnsignedByteArray.of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray written = UnsignedByteArray.empty();
+    parent.slice(1, 3).writeTo(written::append);
+    assertThat(written.hexValue()).isEqualTo("0809");
+
+    UnsignedByteArray.empty().writeTo((source, offset, length) -> assertThat(length).isZero());
+    assertThrows(NullPointerException.class, () -> parent.writeTo(null));
+  }
+
+  @Test
+  void appendGrowsCapacity() {
+    UnsignedByteArray array = UnsignedByteArray.withCapacity(1);
+    for (int i = 0; i < 100; i++) {
+      array.append(UnsignedByte.of(i));
+    }
+    assertThat(array.length()).isEqualTo(100);
+    for (int i = 0; i < 100; i++) {
+      assertThat(array.get(i).asInt()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void appendPrimitiveBytes() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 1});
+    array.append(new byte[] {2, 3});
+    array.append(new byte[] {4, 5, 6, 7}, 1, 2);
+    assertThat(array.hexValue()).isEqualTo("000102030506");
+  }
+
+  @Test
+  void appendSelf() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {1, 2});
+    assertThat(array.append(array).hexValue()).isEqualTo("01020102");
+  }
+
+  @Test
+  void getUnsignedBytesWritesThrough() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 1});
+    array.getUnsignedBytes().set(0, UnsignedByte.of(MAX_BYTE));
+    assertThat(array.hexValue()).isEqualTo("FF01");
+    assertThat(array.getUnsignedBytes()).containsExactly(UnsignedByte.of(MAX_BYTE), UnsignedByte.of(1));
+  }
+
+  @Test
+  void getOutOfBounds() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 1, 2}).slice(0, 2);
+    assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+  }
+
   @Test
   void hashcode() {
     UnsignedByteArray array1 = UnsignedByteArray.of(new byte[] {0, 1});
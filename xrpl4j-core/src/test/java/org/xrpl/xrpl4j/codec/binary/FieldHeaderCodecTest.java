@@ -21,10 +21,12 @@ package org.xrpl.xrpl4j.codec.binary;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefaultDefinitionsProvider;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
 import org.xrpl.xrpl4j.codec.fixtures.data.FieldTest;
@@ -60,6 +62,31 @@ class FieldHeaderCodecTest {
       assertThat(fieldHeaderCodec.encode(fieldTest.name())).isEqualTo(fieldTest.expectedHex()));
   }
 
+  @Test
+  void encodeToSink() {
+    fieldTests.forEach(fieldTest -> {
+      UnsignedByteArray sink = UnsignedByteArray.fromHex("AB");
+      fieldHeaderCodec.encode(fieldTest.name(), sink);
+      assertThat(sink.hexValue()).isEqualTo("AB" + fieldTest.expectedHex());
+    });
+  }
+
+  @Test
+  void sharedInstanceMatchesDefinitions() {
+    fieldTests.forEach(fieldTest ->
+      assertThat(FieldHeaderCodec.getInstance().encode(fieldTest.name())).isEqualTo(fieldTest.expectedHex()));
+  }
+
+  @Test
+  void encodeInvalidField() {
+    assertThatThrownBy(() -> fieldHeaderCodec.encode("NotAField", UnsignedByteArray.empty()))
+      .isInstanceOf(NullPointerException.class)
+      .hasMessage("NotAField is not a valid field name");
+    // "hash" has a field code of 257, which cannot be represented in a field header.
+    assertThatThrownBy(() -> fieldHeaderCodec.encode("hash"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void decode() {
     fieldTests.forEach(fieldTest ->
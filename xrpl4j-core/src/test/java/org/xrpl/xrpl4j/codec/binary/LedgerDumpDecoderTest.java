@@ -0,0 +1,149 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link LedgerDumpDecoder}.
+ */
+class LedgerDumpDecoderTest {
+
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private ForkJoinPool pool;
+  private LedgerDumpDecoder decoder;
+  private List<String> entries;
+  private List<String> expected;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    pool = new ForkJoinPool(3);
+    decoder = new LedgerDumpDecoder(pool);
+
+    // Enough entries to span several chunks, with a partial chunk at the end.
+    List<String> binaries = FixtureUtils.getCodecFixtures().accountState().stream()
+      .map(CodecFixture::binary)
+      .collect(Collectors.toList());
+    entries = new ArrayList<>();
+    expected = new ArrayList<>();
+    while (entries.size() < 5 * LedgerDumpDecoder.CHUNK_SIZE + 7) {
+      String binary = binaries.get(entries.size() % binaries.size());
+      entries.add(binary);
+      expected.add(codec.decode(binary));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void decodeHexEntries() {
+    assertThat(decoder.decode(entries).map(JsonNode::toString)).containsExactlyElementsOf(expected);
+    assertThat(decoder.decode(Collections.emptyList()).count()).isZero();
+
+    try (Stream<JsonNode> stream = decoder.decode(entries)) {
+      assertThat(stream.spliterator().estimateSize()).isEqualTo(entries.size());
+    }
+    try (Stream<JsonNode> stream = decoder.decode(entries)) {
+      assertThat(stream.skip(1).findFirst().map(JsonNode::toString)).hasValue(expected.get(1));
+    }
+  }
+
+  @Test
+  void decodeLengthPrefixedDump() {
+    UnsignedByteArray dump = UnsignedByteArray.empty();
+    BinarySerializer serializer = new BinarySerializer(dump);
+    entries.forEach(entry -> serializer.writeLengthEncoded(new BlobType(UnsignedByteArray.fromHex(entry))));
+
+    assertThat(decoder.decodeLengthPrefixed(dump.toByteArray()).map(JsonNode::toString))
+      .containsExactlyElementsOf(expected);
+    assertThat(decoder.decodeLengthPrefixed(new byte[0]).count()).isZero();
+
+    byte[] truncated = dump.slice(0, dump.length() - 1).toByteArray();
+    assertThatThrownBy(() -> decoder.decodeLengthPrefixed(truncated))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void decodeJsonEntries() {
+    ArrayNode array = objectMapper.createArrayNode();
+    array.add(entries.get(0));
+    array.addObject()
+      .put("data", entries.get(1))
+      .put("index", "DD8B0B5CB7C2F8D0D7C7D5A34A1E5E3B53CC3A91E0C6E6C4A5B0C8E4DB2A56B1");
+    array.addObject()
+      .put("tx_blob", entries.get(2))
+      .put("meta", entries.get(3))
+      .put("hash", "0CB9F50BC81A5E1EE4F1E2B4E7DE6E1B7B06DC1D0A1B8D9D3B04A3A3A6A0A4B2");
+
+    List<JsonNode> decoded = decoder.decode(array).collect(Collectors.toList());
+
+    assertThat(decoded).hasSize(3);
+    assertThat(decoded.get(0).toString()).isEqualTo(expected.get(0));
+    assertThat(decoded.get(1).get("index")).isEqualTo(array.get(1).get("index"));
+    assertThat(withoutFields(decoded.get(1), "index").toString()).isEqualTo(expected.get(1));
+    assertThat(decoded.get(2).get("hash")).isEqualTo(array.get(2).get("hash"));
+    assertThat(decoded.get(2).get("metaData").toString()).isEqualTo(expected.get(3));
+    assertThat(withoutFields(decoded.get(2), "hash", "metaData").toString()).isEqualTo(expected.get(2));
+
+    assertThatThrownBy(() -> decoder.decode(objectMapper.createObjectNode()))
+      .isInstanceOf(IllegalArgumentException.class);
+    ArrayNode invalid = objectMapper.createArrayNode();
+    invalid.addObject().put("index", "00");
+    assertThatThrownBy(() -> decoder.decode(invalid).collect(Collectors.toList()))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("Ledger entry has no data or tx_blob field");
+  }
+
+  private JsonNode withoutFields(final JsonNode node, final String... fieldNames) {
+    ObjectNode copy = ((ObjectNode) node).deepCopy();
+    copy.remove(Arrays.asList(fieldNames));
+    return copy;
+  }
+
+}
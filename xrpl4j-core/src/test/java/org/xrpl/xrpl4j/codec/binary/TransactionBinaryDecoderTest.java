@@ -0,0 +1,137 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerObject;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link TransactionBinaryDecoder}, which must produce the same models as decoding to a JSON string
+ * with {@link XrplBinaryCodec} and reading that string with an {@link ObjectMapper}.
+ */
+class TransactionBinaryDecoderTest {
+
+  private static final ObjectMapper objectMapper = ObjectMapperFactory.create();
+  private static final Hash256 INDEX =
+    Hash256.of("A0083FBE1409241D31E598D48915E59AD782690D816C5C13104E9D8BBF77BE95");
+
+  private final TransactionBinaryDecoder decoder = TransactionBinaryDecoder.getInstance();
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+
+  private static Stream<CodecFixture> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream();
+  }
+
+  private static Stream<CodecFixture> accountStateFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void decodeTransactionMatchesJsonDecoding(CodecFixture fixture) throws JsonProcessingException {
+    Transaction expected = objectMapper.readValue(codec.decode(fixture.binary()), Transaction.class);
+
+    Transaction transaction = decoder.decodeTransaction(fixture.binary());
+    assertThat(transaction).isEqualTo(expected);
+    assertThat(transaction.getClass()).isEqualTo(expected.getClass());
+  }
+
+  @ParameterizedTest
+  @MethodSource("accountStateFixtures")
+  void decodeLedgerObjectMatchesJsonDecoding(CodecFixture fixture) throws JsonProcessingException {
+    ObjectNode json = (ObjectNode) objectMapper.readTree(codec.decode(fixture.binary()));
+    json.put("index", INDEX.value());
+    LedgerObject expected = objectMapper.treeToValue(json, LedgerObject.class);
+
+    LedgerObject ledgerObject = decoder.decodeLedgerObject(fixture.binary(), INDEX);
+    assertThat(ledgerObject.getClass()).isEqualTo(expected.getClass());
+    // Unknown ledger objects hold their fields as a JsonNode, whose numeric node types depend on how it was read.
+    assertThat(ledgerObject.toString()).isEqualTo(expected.toString());
+  }
+
+  @Test
+  void decodeMetadataMatchesJsonDecoding() throws JsonProcessingException {
+    String json = "{\"AffectedNodes\":[{\"ModifiedNode\":{\"FinalFields\":{" +
+      "\"Account\":\"rLs4G81Z45GbNZgHXWHawuDogzWxAFCKW3\",\"Balance\":\"18163730522\",\"Flags\":0," +
+      "\"OwnerCount\":51,\"Sequence\":294975},\"LedgerEntryType\":\"AccountRoot\"," +
+      "\"LedgerIndex\":\"A0083FBE1409241D31E598D48915E59AD782690D816C5C13104E9D8BBF77BE95\"," +
+      "\"PreviousFields\":{\"Balance\":\"18163730532\",\"OwnerCount\":52,\"Sequence\":294974}," +
+      "\"PreviousTxnID\":\"944A4D54DD0107A9EF848AD9D138587928C62A7349D2681FD405CA45225A942D\"," +
+      "\"PreviousTxnLgrSeq\":40958036}}],\"TransactionIndex\":3,\"TransactionResult\":\"tesSUCCESS\"}";
+    String encoded = codec.encode(json);
+    TransactionMetadata expected = objectMapper.readValue(codec.decode(encoded), TransactionMetadata.class);
+
+    TransactionMetadata metadata = decoder.decodeMetadata(encoded);
+    assertThat(metadata).isEqualTo(expected);
+    assertThat(metadata.affectedNodes()).hasSize(1);
+  }
+
+  @Test
+  void decodeTransactionWithSigningPrefix() throws IOException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().transactions().get(0);
+    Transaction transaction = decoder.decodeTransaction(fixture.binary());
+
+    String encodedForSigning = codec.encodeForSigning(objectMapper.writeValueAsString(transaction));
+    assertThat(decoder.decodeTransaction(encodedForSigning))
+      .isEqualTo(objectMapper.readValue(codec.decode(encodedForSigning), Transaction.class));
+  }
+
+  @Test
+  void decodeTransactionWithTruncatedMultiSigningSuffix() {
+    String encoded = XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX + "120000";
+    assertThatThrownBy(() -> decoder.decodeTransaction(encoded))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("AccountId suffix");
+  }
+
+  @Test
+  void decodeTransactionWithoutTransactionType() throws JsonProcessingException {
+    String encoded = codec.encode("{\"Account\":\"rLs4G81Z45GbNZgHXWHawuDogzWxAFCKW3\"}");
+    assertThatThrownBy(() -> decoder.decodeTransaction(encoded))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("TransactionType");
+  }
+
+  @Test
+  void decodeWithNulls() {
+    assertThatThrownBy(() -> decoder.decodeTransaction((byte[]) null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> decoder.decodeTransaction((String) null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> decoder.decodeMetadata((byte[]) null)).isInstanceOf(NullPointerException.class);
+  }
+
+}
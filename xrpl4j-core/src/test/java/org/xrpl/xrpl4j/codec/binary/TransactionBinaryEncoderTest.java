@@ -0,0 +1,188 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.flags.PaymentFlags;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.Memo;
+import org.xrpl.xrpl4j.model.transactions.MemoWrapper;
+import org.xrpl.xrpl4j.model.transactions.NfTokenMint;
+import org.xrpl.xrpl4j.model.transactions.NfTokenUri;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Signer;
+import org.xrpl.xrpl4j.model.transactions.SignerWrapper;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransferFee;
+import org.xrpl.xrpl4j.model.transactions.UnlModify;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link TransactionBinaryEncoder}, which must produce the same bytes as {@link XrplBinaryCodec}.
+ */
+class TransactionBinaryEncoderTest {
+
+  private static final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final TransactionBinaryEncoder encoder = TransactionBinaryEncoder.getInstance();
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+
+  private static Stream<Arguments> fixtureTransactions() throws IOException {
+    List<JsonNode> jsons = new ArrayList<>();
+    FixtureUtils.getCodecFixtures().transactions().forEach(fixture -> jsons.add(fixture.json()));
+    FixtureUtils.getDataDrivenFixtures().wholeObjectTests().forEach(fixture -> jsons.add(fixture.txJson()));
+
+    List<Arguments> transactions = new ArrayList<>();
+    for (JsonNode json : jsons) {
+      Transaction transaction;
+      try {
+        transaction = objectMapper.treeToValue(json, Transaction.class);
+      } catch (Exception e) {
+        // Not every fixture is a transaction that the model can represent.
+        continue;
+      }
+      transactions.add(Arguments.of(transaction));
+    }
+    return transactions.stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource("fixtureTransactions")
+  void encodesFixturesLikeBinaryCodec(Transaction transaction) throws IOException {
+    assertMatchesBinaryCodec(transaction);
+  }
+
+  @Test
+  void encodePaymentWithAllFieldKinds() throws IOException {
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .amount(IssuedCurrencyAmount.builder()
+        .currency("USD")
+        .issuer(Address.of("rvYAfWj5gh67oV6fW32ZzP3Aw4Eubs59B"))
+        .value("1.5")
+        .build())
+      .sendMax(XrpCurrencyAmount.ofDrops(2000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .destinationTag(UnsignedInteger.valueOf(42))
+      .sequence(UnsignedInteger.ZERO)
+      .ticketSequence(UnsignedInteger.valueOf(7))
+      .lastLedgerSequence(UnsignedInteger.valueOf(1_000))
+      .invoiceId(Hash256.of("6F1DFD1D0FE8A32E40E1F2C05CF1C15545BAB56B617F9C6C2D63A6B704BEF59B"))
+      .addMemos(MemoWrapper.builder().memo(Memo.builder().memoData("ABCD").build()).build())
+      .signingPublicKey(PublicKey.fromBase16EncodedPublicKey(""))
+      .addSigners(
+        signer("rGDG5dYzvaNMaNGHAYGJKGH1vPBTHeD4fy"),
+        signer("rwm8zSsHG5oTrHMTkKQFKCV3QDQEG1zHvB")
+      )
+      .build();
+
+    assertMatchesBinaryCodec(payment);
+  }
+
+  @Test
+  void encodeSignedPaymentWithFlags() throws IOException {
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .amount(XrpCurrencyAmount.ofDrops(1_000_000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .flags(PaymentFlags.builder().tfPartialPayment(true).build())
+      .signingPublicKey(
+        PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+      )
+      .transactionSignature(Signature.fromBase16("ABCD"))
+      .build();
+
+    assertMatchesBinaryCodec(payment);
+    assertMatchesBinaryCodec(Payment.builder().from(payment).flags(PaymentFlags.empty()).build());
+  }
+
+  @Test
+  void encodeUnlModifyWithoutAccount() throws IOException {
+    UnlModify unlModify = UnlModify.builder()
+      .fee(XrpCurrencyAmount.ofDrops(0))
+      .sequence(UnsignedInteger.ZERO)
+      .ledgerSequence(LedgerIndex.of(UnsignedInteger.valueOf(67850752)))
+      .unlModifyDisabling(UnsignedInteger.ONE)
+      .unlModifyValidator("EDB6FC8E803EE8EDC2793F1EC917B2EE41D35255618DEB91D3F9B1FC89B75D4539")
+      .build();
+
+    assertMatchesBinaryCodec(unlModify);
+  }
+
+  @Test
+  void encodeNfTokenMintWithNumericFields() throws IOException {
+    NfTokenMint nfTokenMint = NfTokenMint.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.ONE)
+      .tokenTaxon(UnsignedLong.valueOf(146999694L))
+      .transferFee(TransferFee.of(UnsignedInteger.valueOf(1000)))
+      .uri(NfTokenUri.ofPlainText("ipfs://bafybeigdyrzt5sfp7udm7hu76uh7y26nf4dfuylqabf3oclgtqy55fbzdi"))
+      .signingPublicKey(PublicKey.fromBase16EncodedPublicKey(""))
+      .build();
+
+    assertMatchesBinaryCodec(nfTokenMint);
+  }
+
+  private SignerWrapper signer(String account) {
+    return SignerWrapper.of(Signer.builder()
+      .account(Address.of(account))
+      .signingPublicKey(
+        PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+      )
+      .transactionSignature(Signature.fromBase16("ABCD"))
+      .build());
+  }
+
+  private void assertMatchesBinaryCodec(Transaction transaction) throws IOException {
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(transaction));
+    assertThat(encoder.encode(transaction, UnsignedByteArray.empty()).hexValue())
+      .isEqualTo(codec.encode(json, UnsignedByteArray.empty()).hexValue());
+    assertThat(encoder.encodeForSigning(transaction, UnsignedByteArray.empty()).hexValue())
+      .isEqualTo(codec.encodeForSigning(json, UnsignedByteArray.empty()).hexValue());
+  }
+
+}
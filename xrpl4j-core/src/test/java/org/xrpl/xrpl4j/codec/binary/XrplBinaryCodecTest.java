@@ -22,9 +22,15 @@ package org.xrpl.xrpl4j.codec.binary;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
+import com.google.common.collect.Sets;
+import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedInteger;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.Lists;
@@ -35,6 +41,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
 import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
 import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
@@ -53,7 +61,13 @@ import org.xrpl.xrpl4j.model.transactions.TrustSet;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 class XrplBinaryCodecTest {
@@ -79,6 +93,13 @@ class XrplBinaryCodecTest {
     return FixtureUtils.getCodecFixtures().transactions().stream().map(Arguments::of);
   }
 
+  private static Stream<Arguments> accountStateCodecFixtures() throws IOException {
+    // ExchangeRate values are hex in these fixtures, which UInt64Type.fromJson does not yet accept.
+    return FixtureUtils.getCodecFixtures().accountState().stream()
+      .filter(fixture -> !fixture.json().has("ExchangeRate"))
+      .map(Arguments::of);
+  }
+
   @Test
   void encodeDecodeSimple() throws JsonProcessingException {
     assertThat(encoder.encode(SIMPLE_JSON)).isEqualTo(SIMPLE_HEX);
@@ -428,7 +449,97 @@ class XrplBinaryCodecTest {
   }
 
   @Test
-  public void encodePaymentWithSigners() throws JsonProcessingException {
+  void encodeJsonNodeToBytes() throws JsonProcessingException {
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"SourceTag\":1," +
+        "\"Amount\":{\"value\":\"1234567890123456\",\"currency\":\"USD\"," +
+        "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"}," +
+        "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\",\"DestinationTag\":2," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+        "\"TxnSignature\": \"12345678\"}";
+    String signerAccountId = "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN";
+    JsonNode node = objectMapper.readTree(json);
+
+    assertThat(encoder.encode(node, UnsignedByteArray.empty()).hexValue()).isEqualTo(encoder.encode(json));
+    assertThat(encoder.encodeForSigning(node, UnsignedByteArray.empty()).hexValue())
+      .isEqualTo(encoder.encodeForSigning(json));
+    assertThat(encoder.encodeForMultiSigning(node, signerAccountId, UnsignedByteArray.empty()).hexValue())
+      .isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+    assertThat(
+      encoder.encodeForMultiSigningWithoutSigner(node, UnsignedByteArray.empty())
+        .append(AddressCodec.getInstance().decodeAccountId(Address.of(signerAccountId)))
+        .hexValue()
+    ).isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+    // Encoding for multi-signing must not clear the SigningPubKey of the caller's node.
+    assertThat(node.get("SigningPubKey").asText())
+      .isEqualTo("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A");
+
+    UnsignedByteArray sink = UnsignedByteArray.fromHex("ABCD");
+    assertThat(encoder.encode(node, sink)).isSameAs(sink);
+    assertThat(sink.hexValue()).isEqualTo("ABCD" + encoder.encode(json));
+  }
+
+  @Test
+  void decodeSelectedFields() throws JsonProcessingException {
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720," +
+        "\"Amount\":{\"value\":\"1234567890123456\",\"currency\":\"USD\"," +
+        "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"}," +
+        "\"Memos\":[{\"Memo\":{\"MemoData\":\"" + Strings.repeat("AB", 300) + "\"}}]," +
+        "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    Set<String> fieldNames = Sets.newHashSet("Account", "Sequence", "TransactionType", "Memos", "NotAField");
+    String expected = "{\"TransactionType\":\"Payment\",\"Sequence\":1," +
+      "\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\"," +
+      "\"Memos\":[{\"Memo\":{\"MemoData\":\"" + Strings.repeat("AB", 300) + "\"}}]}";
+
+    byte[] bytes = BaseEncoding.base16().decode(encoder.encode(json));
+    assertThat(encoder.decode(bytes, fieldNames).toString()).isEqualTo(expected);
+    assertThat(encoder.decode(bytes, field -> field.type().equals("Amount")).toString())
+      .isEqualTo("{\"Amount\":{\"currency\":\"USD\",\"value\":\"1234567890123456\"," +
+        "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"},\"Fee\":\"789\"}");
+    assertThat(encoder.decode(bytes, Collections.emptySet()).toString()).isEqualTo("{}");
+
+    byte[] signingBytes = BaseEncoding.base16().decode(encoder.encodeForSigning(json));
+    assertThat(encoder.decode(signingBytes, fieldNames).toString()).isEqualTo(expected);
+    byte[] multiSigningBytes = BaseEncoding.base16().decode(
+      encoder.encodeForMultiSigning(json, "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN")
+    );
+    assertThat(encoder.decode(multiSigningBytes, fieldNames).toString()).isEqualTo(expected);
+  }
+
+  @Test
+  void decodeMultiSigningPrefixWithoutSuffix() {
+    byte[] prefixOnly = BaseEncoding.base16().decode(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX);
+    Assertions.assertThatThrownBy(() -> encoder.decode(prefixOnly, Collections.emptySet()))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("AccountId suffix");
+
+    byte[] shortSuffix = BaseEncoding.base16().decode(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX + "1200");
+    Assertions.assertThatThrownBy(() -> encoder.decode(shortSuffix, Collections.emptySet()))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("AccountId suffix");
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionCodecFixtures")
+  void decodeSelectedFieldsMatchesFullDecode(CodecFixture codecFixture) throws JsonProcessingException {
+    JsonNode full = objectMapper.readTree(encoder.decode(codecFixture.binary()));
+    Set<String> fieldNames = Sets.newHashSet("Account", "Sequence", "TransactionType", "Paths", "Memos");
+    ObjectNode expected = objectMapper.createObjectNode();
+    full.fieldNames().forEachRemaining(fieldName -> {
+      if (fieldNames.contains(fieldName)) {
+        expected.set(fieldName, full.get(fieldName));
+      }
+    });
+
+    JsonNode selected = encoder.decode(BaseEncoding.base16().decode(codecFixture.binary()), fieldNames);
+    assertThat(objectMapper.readTree(selected.toString())).isEqualTo(expected);
+  }
+
+  @Test
+  public void encodePaymentWithSigners() throws IOException {
     String json = "{\"Account\":\"rGs8cFHMfJanAXVtn6e8Lz2iH8FtnGdexw\",\"Fee\":\"30\"," +
       "\"Sequence\":6," +
       "\"Signers\":" +
@@ -452,21 +563,166 @@ class XrplBinaryCodecTest {
       "47982D268392B8134EF4CA35159C170C40E51F5AFB4F1400DCC9287A37098114A6DBFFB301F614A2F7B5E6B94392E17" +
       "AAF898E9DE1F1";
     assertThat(encoder.encode(json)).isEqualTo(expected);
+    assertThat(encodeStreaming(json)).isEqualTo(expected);
+  }
+
+  @Test
+  void encodeSortsSignersByUnsignedAccountId() throws IOException {
+    AddressCodec addressCodec = AddressCodec.getInstance();
+    List<String> accounts = Stream.of(
+      "FF" + Strings.repeat("00", 19),
+      "80" + Strings.repeat("00", 19),
+      "7F" + Strings.repeat("FF", 19),
+      Strings.repeat("00", 20)
+    )
+      .map(hex -> addressCodec.encodeAccountId(UnsignedByteArray.fromHex(hex)).value())
+      .collect(Collectors.toList());
+    String json = "{\"Signers\":[" +
+      accounts.stream()
+        .map(account -> "{\"Signer\":{\"Account\":\"" + account + "\",\"SigningPubKey\":\"\"}}")
+        .collect(Collectors.joining(",")) +
+      "]}";
+
+    List<String> expectedOrder = Lists.newArrayList(accounts.get(3), accounts.get(2), accounts.get(1), accounts.get(0));
+    for (String encoded : Lists.newArrayList(encoder.encode(json), encodeStreaming(json))) {
+      JsonNode signers = objectMapper.readTree(encoder.decode(encoded)).get("Signers");
+      List<String> order = new ArrayList<>();
+      signers.forEach(signer -> order.add(signer.get("Signer").get("Account").asText()));
+      assertThat(order).isEqualTo(expectedOrder);
+    }
+  }
+
+  @Test
+  void encodeFromJsonParser() throws IOException {
+    String json = "{\"Memo\":{\"Memo\":{\"Method\":2,\"CloseResolution\":1}}," +
+      "\"NotAField\":{\"Nested\":[1,2,{\"Method\":3}]},\"Method\":4,\"Method\":2}";
+    assertThat(encodeStreaming(json)).isEqualTo(encoder.encode(json));
+
+    UnsignedByteArray sink = UnsignedByteArray.fromHex("ABCD");
+    try (JsonParser parser = objectMapper.getFactory().createParser(SIMPLE_JSON)) {
+      assertThat(encoder.encode(parser, sink)).isSameAs(sink);
+      assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+    }
+    assertThat(sink.hexValue()).isEqualTo("ABCD" + SIMPLE_HEX);
+
+    Assertions.assertThatThrownBy(() -> encodeStreaming("[]"))
+      .isInstanceOf(IllegalArgumentException.class);
+    Assertions.assertThatThrownBy(() -> encodeStreaming("{\"Indexes\":[1]}"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("non-string value found in vector");
+  }
+
+  @Test
+  void encodeUnlModifyFromJsonParser() throws IOException {
+    // TransactionType appears after Account, so the streaming encoder only learns to drop Account at the end.
+    String json = "{" +
+      "\"Account\":\"rrrrrrrrrrrrrrrrrrrrrhoLvTp\"," +
+      "\"Fee\":\"0\"," +
+      "\"LedgerSequence\":67850752," +
+      "\"Sequence\":0," +
+      "\"SigningPubKey\":\"\"," +
+      "\"TransactionType\":\"UNLModify\"," +
+      "\"UNLModifyDisabling\":1," +
+      "\"UNLModifyValidator\":\"EDB6FC8E803EE8EDC2793F1EC917B2EE41D35255618DEB91D3F9B1FC89B75D4539\"}";
+    assertThat(encodeStreaming(json)).isEqualTo(encoder.encode(json));
+  }
+
+  @Test
+  void encodeAllMatchesEncode() throws IOException {
+    List<String> jsons = FixtureUtils.getCodecFixtures().transactions().stream()
+      .map(fixture -> fixture.json().toString())
+      .collect(Collectors.toList());
+    List<String> expected = new ArrayList<>();
+    List<String> expectedForSigning = new ArrayList<>();
+    for (String json : jsons) {
+      expected.add(encoder.encode(json));
+      expectedForSigning.add(encoder.encodeForSigning(json));
+    }
+
+    assertThat(encoder.encodeAll(jsons)).isEqualTo(expected);
+    assertThat(encoder.encodeForSigningAll(jsons)).isEqualTo(expectedForSigning);
+    assertThat(encoder.encodeAll(Collections.emptyList())).isEmpty();
+
+    // Large enough to be split into chunks that are encoded concurrently.
+    List<String> batch = new ArrayList<>();
+    List<String> expectedBatch = new ArrayList<>();
+    List<String> expectedBatchForSigning = new ArrayList<>();
+    while (batch.size() < 2_000) {
+      batch.addAll(jsons);
+      expectedBatch.addAll(expected);
+      expectedBatchForSigning.addAll(expectedForSigning);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(encoder.encodeAll(batch, executor)).isEqualTo(expectedBatch);
+      assertThat(encoder.encodeForSigningAll(batch, executor)).isEqualTo(expectedBatchForSigning);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(encoder.encodeAll(batch, Runnable::run)).isEqualTo(expectedBatch);
+  }
+
+  @Test
+  void encodeAllAcceptsJsonNodesAndModelObjects() throws JsonProcessingException {
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey(
+        PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+      )
+      .transactionSignature(Signature.fromBase16("ABCD"))
+      .build();
+    String json = objectMapper.writeValueAsString(payment);
+    JsonNode node = objectMapper.readTree(json);
+
+    assertThat(encoder.encodeAll(Lists.newArrayList(payment, node, json)))
+      .containsOnly(encoder.encode(json));
+    assertThat(encoder.encodeForSigningAll(Lists.newArrayList(payment, node, json)))
+      .containsOnly(encoder.encodeForSigning(json));
+  }
+
+  @Test
+  void encodeAllRethrowsInvalidJson() {
+    List<String> batch = new ArrayList<>(Collections.nCopies(1_000, SIMPLE_JSON));
+    batch.set(700, "{\"CloseResolution\":");
+    Assertions.assertThatThrownBy(() -> encoder.encodeAll(batch))
+      .isInstanceOf(JsonProcessingException.class);
+    Assertions.assertThatThrownBy(() -> encoder.encodeAll(Collections.singletonList("[]")))
+      .isInstanceOf(IllegalArgumentException.class);
   }
 
   @ParameterizedTest
   @MethodSource("dataDrivenFixtures")
   void dataDriven(WholeObject wholeObject) throws IOException {
     assertThat(encoder.encode(wholeObject.txJson().toString())).isEqualTo(wholeObject.expectedHex());
+    assertThat(encodeStreaming(wholeObject.txJson().toString())).isEqualTo(wholeObject.expectedHex());
+  }
+
+  @ParameterizedTest
+  @MethodSource("accountStateCodecFixtures")
+  void accountStateFixtureTests(CodecFixture codecFixture) throws IOException {
+    assertThat(encodeStreaming(codecFixture.json().toString()))
+      .isEqualTo(encoder.encode(codecFixture.json().toString()))
+      .isEqualTo(codecFixture.binary());
   }
 
   @ParameterizedTest
   @MethodSource("transactionCodecFixtures")
-  void transactionFixtureTests(CodecFixture codecFixture) throws JsonProcessingException, JSONException {
+  void transactionFixtureTests(CodecFixture codecFixture) throws IOException, JSONException {
     assertThat(encoder.encode(codecFixture.json().toString())).isEqualTo(codecFixture.binary());
+    assertThat(encodeStreaming(codecFixture.json().toString())).isEqualTo(codecFixture.binary());
     JSONAssert.assertEquals(
       encoder.decode(codecFixture.binary()), codecFixture.json().toString(), JSONCompareMode.STRICT
     );
   }
 
+  private String encodeStreaming(String json) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      return encoder.encode(parser, UnsignedByteArray.empty()).hexValue();
+    }
+  }
+
 }
@@ -0,0 +1,78 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+/**
+ * Unit tests for {@link DefinitionsService}.
+ */
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @Test
+  void getFieldInstanceByName() {
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(fee.type()).isEqualTo("Amount");
+    assertThat(fee.nth()).isEqualTo(8);
+    assertThat(fee.header()).isEqualTo(FieldHeader.builder().typeCode(6).fieldCode(8).build());
+    assertThat(fee.isSerialized()).isTrue();
+    assertThat(fee.isSigningField()).isTrue();
+    assertThat(fee.isVariableLengthEncoded()).isFalse();
+    assertThat(fee.ordinal()).isEqualTo((6 << 16) | 8);
+
+    // Instances are precomputed, so repeated lookups return the same instance.
+    assertThat(definitionsService.getFieldInstance("Fee").get()).isSameAs(fee);
+    assertThat(definitionsService.getFieldHeader("Fee")).hasValue(fee.header());
+
+    assertThat(definitionsService.getFieldInstance("NotAField")).isEmpty();
+    assertThat(definitionsService.getFieldInstance(null)).isEmpty();
+  }
+
+  @Test
+  void getFieldInstanceByCode() {
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(definitionsService.getFieldInstance(6, 8).get()).isSameAs(fee);
+
+    FieldInstance hash = definitionsService.getFieldInstance("hash").get();
+    assertThat(hash.nth()).isEqualTo(257);
+    assertThat(definitionsService.getFieldInstance(5, 257)).isEmpty();
+
+    assertThat(definitionsService.getFieldInstance(6, 255)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(6, -1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(-1, 8)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(256, 8)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(10001, 1)).isEmpty();
+  }
+
+  @Test
+  void getFieldInstanceByCodeMatchesFieldName() {
+    FieldInstance account = definitionsService.getFieldInstance("Account").get();
+    FieldHeader header = account.header();
+    assertThat(definitionsService.getFieldName(header)).isEqualTo("Account");
+    assertThat(definitionsService.getFieldInstance(header.typeCode(), header.fieldCode())).hasValue(account);
+  }
+
+}
@@ -0,0 +1,91 @@
+package org.xrpl.xrpl4j.codec.binary.internal;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+class ParallelRangesTest {
+
+  @Test
+  void smallBatchRunsOnCallingThread() {
+    final Thread caller = Thread.currentThread();
+    final AtomicInteger calls = new AtomicInteger();
+    final Executor failingExecutor = command -> {
+      throw new AssertionError("small batches must not use the executor");
+    };
+
+    ParallelRanges.forEachRange(16, 16, failingExecutor, (from, to) -> {
+      assertThat(Thread.currentThread()).isSameAs(caller);
+      assertThat(from).isEqualTo(0);
+      assertThat(to).isEqualTo(16);
+      calls.incrementAndGet();
+    });
+
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void largeBatchVisitsEveryIndexOnce() {
+    final int size = 10_000;
+    final AtomicIntegerArray visits = new AtomicIntegerArray(size);
+
+    ParallelRanges.forEachRange(size, 16, ForkJoinPool.commonPool(), (from, to) -> {
+      assertThat(to - from).isGreaterThanOrEqualTo(Math.min(16, size - from));
+      for (int i = from; i < to; i++) {
+        visits.incrementAndGet(i);
+      }
+    });
+
+    for (int i = 0; i < size; i++) {
+      assertThat(visits.get(i)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void largeBatchRethrowsTaskException() {
+    final IllegalStateException failure = new IllegalStateException("boom");
+
+    assertThatThrownBy(() -> ParallelRanges.forEachRange(1_000, 1, ForkJoinPool.commonPool(), (from, to) -> {
+      throw failure;
+    })).isSameAs(failure);
+  }
+
+  @Test
+  void forEachRangeWithInvalidArguments() {
+    assertThatThrownBy(() -> ParallelRanges.forEachRange(-1, 1, Runnable::run, (from, to) -> { }))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ParallelRanges.forEachRange(1, 0, Runnable::run, (from, to) -> { }))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ParallelRanges.forEachRange(1, 1, null, (from, to) -> { }))
+      .isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> ParallelRanges.forEachRange(1, 1, Runnable::run, null))
+      .isInstanceOf(NullPointerException.class);
+  }
+
+}
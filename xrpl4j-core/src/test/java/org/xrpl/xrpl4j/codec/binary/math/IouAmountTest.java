@@ -0,0 +1,351 @@
+package org.xrpl.xrpl4j.codec.binary.math;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link IouAmount}.
+ */
+class IouAmountTest {
+
+  @Test
+  void fromStringNormalizes() {
+    IouAmount one = IouAmount.fromString("1");
+    assertThat(one.mantissa()).isEqualTo(1_000_000_000_000_000L);
+    assertThat(one.exponent()).isEqualTo(-15);
+    assertThat(one.isNegative()).isFalse();
+
+    assertThat(IouAmount.fromString("1.0")).isEqualTo(one);
+    assertThat(IouAmount.fromString("+1")).isEqualTo(one);
+    assertThat(IouAmount.fromString("100e-2")).isEqualTo(one);
+    assertThat(IouAmount.fromString("0.01E2")).isEqualTo(one);
+    assertThat(IouAmount.fromString("00001.000000000000000000000")).isEqualTo(one);
+
+    IouAmount negative = IouAmount.fromString("-123.45");
+    assertThat(negative.mantissa()).isEqualTo(1_234_500_000_000_000L);
+    assertThat(negative.exponent()).isEqualTo(-13);
+    assertThat(negative.isNegative()).isTrue();
+    assertThat(negative.signum()).isEqualTo(-1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-0", "0.000", "0e10", "+0.0E-5"})
+  void fromStringZero(String value) {
+    IouAmount zero = IouAmount.fromString(value);
+    assertThat(zero).isEqualTo(IouAmount.ZERO);
+    assertThat(zero.isZero()).isTrue();
+    assertThat(zero.isNegative()).isFalse();
+    assertThat(zero.toBits()).isEqualTo(0x8000000000000000L);
+    assertThat(zero.toPlainString()).isEqualTo("0");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "-", ".", "1..0", "1e", "1e+", "1x", "1 ", " 1", "e5", "1.2.3", "--1", "1e5.0"})
+  void fromStringRejectsMalformed(String value) {
+    assertThatThrownBy(() -> IouAmount.fromString(value)).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void fromStringRejectsOutOfRange() {
+    assertThatThrownBy(() -> IouAmount.fromString("12345678901234567"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("12345678901234567 has more than 16 digits");
+    assertThatThrownBy(() -> IouAmount.fromString("1.000000000000000001"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageEndingWith("has more than 16 digits");
+    assertThatThrownBy(() -> IouAmount.fromString("1e96"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("exponent out of range");
+    assertThatThrownBy(() -> IouAmount.fromString("1e-82"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("exponent out of range");
+    assertThatThrownBy(() -> IouAmount.fromString("1e99999999999999"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("exponent out of range");
+
+    assertThat(IouAmount.fromString("9999999999999999e80").exponent()).isEqualTo(IouAmount.MAX_EXPONENT);
+    assertThat(IouAmount.fromString("1e-81").exponent()).isEqualTo(IouAmount.MIN_EXPONENT);
+    assertThat(IouAmount.fromString("12345678901234560000").mantissa()).isEqualTo(1_234_567_890_123_456L);
+  }
+
+  @Test
+  void bits() {
+    assertThat(IouAmount.fromString("1").toBits()).isEqualTo(0xD4838D7EA4C68000L);
+    assertThat(IouAmount.fromString("2").toBits()).isEqualTo(0xD4871AFD498D0000L);
+    assertThat(IouAmount.fromString("-2").toBits()).isEqualTo(0x94871AFD498D0000L);
+    assertThat(IouAmount.fromString("2.1").toBits()).isEqualTo(0xD48775F05A074000L);
+
+    assertThat(IouAmount.fromBits(0xD4838D7EA4C68000L)).isEqualTo(IouAmount.fromString("1"));
+    assertThat(IouAmount.fromHex("94871AFD498D0000")).isEqualTo(IouAmount.fromString("-2"));
+    assertThat(IouAmount.fromBits(0x8000000000000000L)).isEqualTo(IouAmount.ZERO);
+    assertThat(IouAmount.fromBits(0xC000000000000000L)).isEqualTo(IouAmount.ZERO);
+
+    // Non-canonical encodings (mantissa 1, exponent 0) decode to the canonical value.
+    assertThat(IouAmount.fromBits(0x8000000000000000L | 0x4000000000000000L | (97L << 54) | 1))
+      .isEqualTo(IouAmount.fromString("1"));
+
+    assertThatThrownBy(() -> IouAmount.fromBits(0x4000000000000064L))
+      .isInstanceOf(IllegalArgumentException.class);
+    // A 17 digit mantissa cannot be represented.
+    assertThatThrownBy(() -> IouAmount.fromBits(0xC000000000000000L | (97L << 54) | 12345678901234567L))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Decimal precision out of range");
+  }
+
+  @Test
+  void toPlainString() {
+    assertThat(IouAmount.fromString("1").toPlainString()).isEqualTo("1");
+    assertThat(IouAmount.fromString("-1.50").toPlainString()).isEqualTo("-1.5");
+    assertThat(IouAmount.fromString("1e3").toPlainString()).isEqualTo("1000");
+    assertThat(IouAmount.fromString("0.00012").toPlainString()).isEqualTo("0.00012");
+    assertThat(IouAmount.fromString("-0.1").toPlainString()).isEqualTo("-0.1");
+    assertThat(IouAmount.fromString("123.456").toPlainString()).isEqualTo("123.456");
+    assertThat(IouAmount.fromString("100.001").toPlainString()).isEqualTo("100.001");
+    assertThat(IouAmount.fromString("1111111111111111e80").toString())
+      .isEqualTo(new BigDecimal("1111111111111111e80").toPlainString());
+  }
+
+  @Test
+  void of() {
+    assertThat(IouAmount.of(false, 1, 0)).isEqualTo(IouAmount.fromString("1"));
+    assertThat(IouAmount.of(true, 250, -2)).isEqualTo(IouAmount.fromString("-2.5"));
+    assertThat(IouAmount.of(true, 0, 1000)).isEqualTo(IouAmount.ZERO);
+    assertThat(IouAmount.of(false, 10_000_000_000_000_000L, 0)).isEqualTo(IouAmount.fromString("1e16"));
+
+    assertThatThrownBy(() -> IouAmount.of(false, -1, 0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IouAmount.of(false, 10_000_000_000_000_001L, 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageEndingWith("has more than 16 digits");
+  }
+
+  @Test
+  void compareTo() {
+    assertThat(IouAmount.fromString("1")).isLessThan(IouAmount.fromString("1.000000000000001"));
+    assertThat(IouAmount.fromString("10")).isGreaterThan(IouAmount.fromString("9.999999999999999"));
+    assertThat(IouAmount.fromString("-10")).isLessThan(IouAmount.fromString("-9.999999999999999"));
+    assertThat(IouAmount.fromString("-1e-81")).isLessThan(IouAmount.ZERO);
+    assertThat(IouAmount.ZERO).isLessThan(IouAmount.fromString("1e-81"));
+    assertThat(IouAmount.fromString("1.5")).isEqualByComparingTo(IouAmount.fromString("15e-1"));
+  }
+
+  @Test
+  void add() {
+    assertThat(iou("1").add(iou("2"))).isEqualTo(iou("3"));
+    assertThat(iou("1.5").add(iou("-2"))).isEqualTo(iou("-0.5"));
+    assertThat(iou("1").add(IouAmount.ZERO)).isEqualTo(iou("1"));
+    assertThat(IouAmount.ZERO.add(iou("-1"))).isEqualTo(iou("-1"));
+    assertThat(iou("1").subtract(iou("1"))).isEqualTo(IouAmount.ZERO);
+
+    // The operand with the smaller exponent is truncated to the larger exponent.
+    assertThat(iou("1").add(iou("1e-20"))).isEqualTo(iou("1"));
+    assertThat(iou("1").add(iou("0.1234567890123456"))).isEqualTo(iou("1.123456789012345"));
+    // Results within 10 units of the last digit of zero become zero.
+    assertThat(iou("1").subtract(iou("0.9999999999999999"))).isEqualTo(IouAmount.ZERO);
+
+    assertThatThrownBy(() -> iou("9999999999999999e80").add(iou("9999999999999999e80")))
+      .isInstanceOf(ArithmeticException.class)
+      .hasMessage("value overflow");
+  }
+
+  @Test
+  void multiply() {
+    assertThat(iou("2").multiply(iou("3"))).isEqualTo(iou("6"));
+    assertThat(iou("-1.5").multiply(iou("4"))).isEqualTo(iou("-6"));
+    assertThat(iou("3").multiply(iou("0.3333333333333333"))).isEqualTo(iou("0.9999999999999999"));
+    assertThat(iou("1").multiply(IouAmount.ZERO)).isEqualTo(IouAmount.ZERO);
+    assertThat(iou("1e-81").multiply(iou("1e-81"))).isEqualTo(IouAmount.ZERO);
+
+    assertThatThrownBy(() -> iou("1e80").multiply(iou("1e80")))
+      .isInstanceOf(ArithmeticException.class)
+      .hasMessage("value overflow");
+  }
+
+  @Test
+  void multiplyRound() {
+    IouAmount third = iou("0.3333333333333333");
+    assertThat(third.multiplyRound(third, true)).isEqualTo(iou("0.1111111111111111"));
+    assertThat(third.multiplyRound(third, false)).isEqualTo(iou("0.1111111111111110"));
+    assertThat(third.negate().multiplyRound(third, true)).isEqualTo(iou("-0.1111111111111110"));
+    assertThat(third.negate().multiplyRound(third, false)).isEqualTo(iou("-0.1111111111111111"));
+
+    // A positive result that rounds up to zero becomes the smallest positive amount.
+    assertThat(iou("1e-81").multiplyRound(iou("1e-81"), true)).isEqualTo(iou("1e-81"));
+    assertThat(iou("1e-81").multiplyRound(iou("1e-81"), false)).isEqualTo(IouAmount.ZERO);
+    assertThat(iou("-1e-81").multiplyRound(iou("1e-81"), true)).isEqualTo(IouAmount.ZERO);
+  }
+
+  @Test
+  void divide() {
+    assertThat(iou("1").divide(iou("3"))).isEqualTo(iou("0.3333333333333333"));
+    assertThat(iou("2").divide(iou("3"))).isEqualTo(iou("0.6666666666666667"));
+    assertThat(iou("-6").divide(iou("4"))).isEqualTo(iou("-1.5"));
+    assertThat(IouAmount.ZERO.divide(iou("3"))).isEqualTo(IouAmount.ZERO);
+
+    assertThatThrownBy(() -> iou("1").divide(IouAmount.ZERO))
+      .isInstanceOf(ArithmeticException.class)
+      .hasMessage("division by zero");
+    assertThatThrownBy(() -> iou("1e80").divide(iou("1e-81")))
+      .isInstanceOf(ArithmeticException.class)
+      .hasMessage("value overflow");
+  }
+
+  @Test
+  void divideRound() {
+    assertThat(iou("1").divideRound(iou("3"), true)).isEqualTo(iou("0.3333333333333334"));
+    assertThat(iou("1").divideRound(iou("3"), false)).isEqualTo(iou("0.3333333333333333"));
+    assertThat(iou("-1").divideRound(iou("3"), true)).isEqualTo(iou("-0.3333333333333333"));
+    assertThat(iou("-1").divideRound(iou("3"), false)).isEqualTo(iou("-0.3333333333333334"));
+    assertThat(iou("1").divideRound(iou("4"), true)).isEqualTo(iou("0.25"));
+
+    assertThat(iou("1e-81").divideRound(iou("1e80"), true)).isEqualTo(iou("1e-81"));
+    assertThat(iou("1e-81").divideRound(iou("1e80"), false)).isEqualTo(IouAmount.ZERO);
+    assertThatThrownBy(() -> iou("1").divideRound(IouAmount.ZERO, true)).isInstanceOf(ArithmeticException.class);
+  }
+
+  /**
+   * Compare the long-only mantissa arithmetic against the same algorithms computed with {@link BigInteger}.
+   */
+  @Test
+  void arithmeticMatchesBigIntegerReference() {
+    Random random = new Random(11);
+    BigInteger tenTo14 = BigInteger.TEN.pow(14);
+    BigInteger tenTo17 = BigInteger.TEN.pow(17);
+    for (int i = 0; i < 20_000; i++) {
+      IouAmount first = randomAmount(random);
+      IouAmount second = randomAmount(random);
+      BigInteger firstMantissa = BigInteger.valueOf(first.mantissa());
+      BigInteger secondMantissa = BigInteger.valueOf(second.mantissa());
+      boolean negative = first.isNegative() != second.isNegative();
+
+      BigInteger product = firstMantissa.multiply(secondMantissa);
+      assertThat(first.multiply(second)).isEqualTo(reference(
+        negative, product.divide(tenTo14).longValueExact() + 7, first.exponent() + second.exponent() + 14
+      ));
+      for (boolean roundUp : new boolean[] {true, false}) {
+        boolean away = negative != roundUp;
+        BigInteger[] quotient = product.divideAndRemainder(tenTo14);
+        long value = quotient[0].longValueExact() + (away && quotient[1].signum() != 0 ? 1 : 0);
+        assertThat(first.multiplyRound(second, roundUp))
+          .isEqualTo(referenceRound(negative, value, first.exponent() + second.exponent() + 14, away, roundUp));
+      }
+
+      BigInteger scaled = firstMantissa.multiply(tenTo17);
+      assertThat(first.divide(second)).isEqualTo(reference(
+        negative, scaled.divide(secondMantissa).longValueExact() + 5, first.exponent() - second.exponent() - 17
+      ));
+      for (boolean roundUp : new boolean[] {true, false}) {
+        boolean away = negative != roundUp;
+        BigInteger[] quotient = scaled.divideAndRemainder(secondMantissa);
+        long value = quotient[0].longValueExact() + (away && quotient[1].signum() != 0 ? 1 : 0);
+        assertThat(first.divideRound(second, roundUp))
+          .isEqualTo(referenceRound(negative, value, first.exponent() - second.exponent() - 17, away, roundUp));
+      }
+
+      // Addition is exact when the exponents match and the sum fits in 16 digits.
+      IouAmount sum = first.add(second);
+      BigDecimal exact = first.toBigDecimal().add(second.toBigDecimal());
+      assertThat(sum.toBigDecimal().subtract(exact).abs())
+        .isLessThanOrEqualTo(BigDecimal.ONE.scaleByPowerOfTen(Math.max(first.exponent(), second.exponent()) + 1));
+    }
+  }
+
+  private IouAmount randomAmount(Random random) {
+    long mantissa = IouAmount.MIN_MANTISSA + (long) (random.nextDouble() * 9 * IouAmount.MIN_MANTISSA);
+    return IouAmount.of(random.nextBoolean(), mantissa, random.nextInt(41) - 35);
+  }
+
+  private IouAmount reference(boolean negative, long value, int offset) {
+    return referenceRound(negative, value, offset, false, false);
+  }
+
+  private IouAmount referenceRound(boolean negative, long value, int offset, boolean away, boolean roundUp) {
+    if (away && value > IouAmount.MAX_MANTISSA) {
+      while (value > 10 * IouAmount.MAX_MANTISSA) {
+        value /= 10;
+        offset++;
+      }
+      value = (value + 9) / 10;
+      offset++;
+    }
+    while (value > IouAmount.MAX_MANTISSA) {
+      value /= 10;
+      offset++;
+    }
+    IouAmount result = IouAmount.of(negative, value, offset);
+    if (roundUp && !negative && result.isZero()) {
+      return IouAmount.fromString("1e-81");
+    }
+    return result;
+  }
+
+  private static IouAmount iou(String value) {
+    return IouAmount.fromString(value);
+  }
+
+  /**
+   * Compare against the {@link BigDecimal} based conversions this class replaces.
+   */
+  @Test
+  void matchesBigDecimalConversions() {
+    Random random = new Random(7);
+    for (int i = 0; i < 20_000; i++) {
+      int digits = 1 + random.nextInt(16);
+      long unscaled = (long) (random.nextDouble() * Math.pow(10, digits));
+      BigDecimal decimal = new BigDecimal(BigInteger.valueOf(random.nextBoolean() ? -unscaled : unscaled),
+        random.nextInt(90) - 80 + digits);
+      if (decimal.signum() != 0) {
+        int exponent = MathUtils.getExponent(decimal);
+        if (exponent < -81 || exponent > 95) {
+          continue;
+        }
+      }
+
+      IouAmount amount = IouAmount.fromString(decimal.toString());
+      assertThat(IouAmount.fromString(decimal.toPlainString())).isEqualTo(amount);
+      assertThat(amount.toBits()).isEqualTo(expectedBits(decimal));
+      assertThat(amount.toPlainString()).isEqualTo(decimal.stripTrailingZeros().toPlainString());
+      assertThat(amount.toBigDecimal()).isEqualByComparingTo(decimal);
+      assertThat(IouAmount.fromBits(amount.toBits())).isEqualTo(amount);
+    }
+  }
+
+  private long expectedBits(BigDecimal number) {
+    if (number.signum() == 0) {
+      return 0x8000000000000000L;
+    }
+    long bits = MathUtils.toPaddedBigInteger(number, 16).longValueExact() | 0x8000000000000000L;
+    if (number.signum() > 0) {
+      bits |= 0x4000000000000000L;
+    }
+    return bits | (long) (97 + MathUtils.getExponent(number) - 15) << 54;
+  }
+
+}
@@ -0,0 +1,132 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for {@link BinaryParser}.
+ */
+class BinaryParserTest {
+
+  private static final String HEX = "FF0102FFFFFFFFFFFFFFFFFFFFFFFF";
+
+  @Test
+  void readUnsignedIntegers() {
+    BinaryParser parser = new BinaryParser(HEX);
+    assertThat(parser.readUInt8()).isEqualTo(255);
+    assertThat(parser.readUInt16()).isEqualTo(258);
+    assertThat(parser.readUInt32()).isEqualTo(4294967295L);
+    assertThat(UnsignedLong.fromLongBits(parser.readUInt64())).isEqualTo(UnsignedLong.MAX_VALUE);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readLowerCaseHex() {
+    BinaryParser parser = new BinaryParser(HEX.toLowerCase());
+    assertThat(parser.readUInt8()).isEqualTo(255);
+    assertThat(parser.read(2).hexValue()).isEqualTo("0102");
+  }
+
+  @Test
+  void readPastEnd() {
+    BinaryParser parser = new BinaryParser("0102");
+    assertThrows(IndexOutOfBoundsException.class, parser::readUInt32);
+    parser.skip(2);
+    assertThrows(IndexOutOfBoundsException.class, parser::peek);
+  }
+
+  @Test
+  void readFromOffsetAndLength() {
+    byte[] bytes = BaseEncoding.base16().decode(HEX);
+    BinaryParser parser = new BinaryParser(bytes, 1, 2);
+    assertThat(parser.size()).isEqualTo(2);
+    assertThat(parser.readUInt16()).isEqualTo(258);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readFromByteBuffer() {
+    ByteBuffer heapBuffer = ByteBuffer.wrap(BaseEncoding.base16().decode(HEX));
+    heapBuffer.position(1);
+    assertThat(BinaryParser.of(heapBuffer).readUInt16()).isEqualTo(258);
+    assertThat(heapBuffer.position()).isEqualTo(1);
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(3);
+    directBuffer.put(new byte[] {(byte) 0xFF, 1, 2}).flip();
+    BinaryParser parser = BinaryParser.of(directBuffer);
+    assertThat(parser.readUInt8()).isEqualTo(255);
+    assertThat(parser.readUInt16()).isEqualTo(258);
+  }
+
+  @Test
+  void readFromUnsignedByteArraySlice() {
+    UnsignedByteArray slice = UnsignedByteArray.fromHex(HEX).slice(1, 3);
+    BinaryParser parser = new BinaryParser(slice);
+    assertThat(parser.size()).isEqualTo(2);
+    assertThat(parser.readUInt16()).isEqualTo(258);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readCopiesBytes() {
+    byte[] bytes = BaseEncoding.base16().decode(HEX);
+    UnsignedByteArray read = new BinaryParser(bytes).read(3);
+    bytes[1] = 0;
+    assertThat(read.hexValue()).isEqualTo("FF0102");
+  }
+
+  @Test
+  void readOrSkipNegativeCount() {
+    BinaryParser parser = new BinaryParser(BaseEncoding.base16().decode(HEX), 2, 4);
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.skip(-1));
+    assertThat(parser.position()).isEqualTo(0);
+  }
+
+  @Test
+  void readVariableLengthLength() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("C16B").readVariableLengthLength()).isEqualTo(300);
+    assertThat(new BinaryParser("F0FF").readVariableLengthLength()).isEqualTo(12480);
+    assertThat(new BinaryParser("F10000").readVariableLengthLength()).isEqualTo(12481);
+  }
+
+  @Test
+  void skipAndPosition() {
+    BinaryParser parser = new BinaryParser(BaseEncoding.base16().decode("00" + HEX), 1, 3);
+    assertThat(parser.position()).isEqualTo(0);
+    parser.skip(2);
+    assertThat(parser.position()).isEqualTo(2);
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.skip(2));
+    assertThat(parser.position()).isEqualTo(2);
+  }
+
+}
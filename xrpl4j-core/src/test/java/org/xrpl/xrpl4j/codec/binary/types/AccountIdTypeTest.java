@@ -21,8 +21,13 @@ package org.xrpl.xrpl4j.codec.binary.types;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 class AccountIdTypeTest {
 
@@ -41,4 +46,41 @@ class AccountIdTypeTest {
       .isEqualTo("5E7B112523F68D2F5E879DB4EAC51C6698A69304");
   }
 
+  @Test
+  void decodedAccountsAreInterned() {
+    String hex = "5E7B112523F68D2F5E879DB4EAC51C6698A69304";
+    CacheStats before = AccountIdType.cacheStats();
+
+    AccountIdType first = codec.fromParser(new BinaryParser(hex));
+    AccountIdType second = codec.fromParser(new BinaryParser(hex));
+    AccountIdType fromAddress = codec.fromJson(new TextNode("r9cZA1mLK5R5Am25ArfXFmqgNwjZgnfk59"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(fromAddress).isSameAs(first);
+    // The address is encoded once per interned instance.
+    assertThat(second.toJson()).isSameAs(first.toJson());
+    assertThat(first.toJson().asText()).isEqualTo("r9cZA1mLK5R5Am25ArfXFmqgNwjZgnfk59");
+
+    CacheStats delta = AccountIdType.cacheStats().minus(before);
+    assertThat(delta.requestCount()).isEqualTo(3);
+    assertThat(delta.hitCount()).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void internedAccountDoesNotShareParserInput() {
+    // An account that no other test decodes, so that this parse is a cache miss.
+    byte[] input = BaseEncoding.base16().decode("0123456789ABCDEF0123456789ABCDEF01234567");
+    AccountIdType interned = codec.fromParser(new BinaryParser(input));
+    input[0] = 0;
+
+    assertThat(interned.toHex()).isEqualTo("0123456789ABCDEF0123456789ABCDEF01234567");
+    assertThat(codec.fromHex("0123456789ABCDEF0123456789ABCDEF01234567")).isSameAs(interned);
+  }
+
+  @Test
+  void invalidAccountIsNotInterned() {
+    assertThatThrownBy(() -> codec.fromJson(DOUBLE_QUOTE + "5E7B" + DOUBLE_QUOTE))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
 }
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
+import org.xrpl.xrpl4j.codec.binary.math.IouAmount;
 
 import java.io.IOException;
 import java.util.stream.Stream;
@@ -88,6 +89,21 @@ class AmountTypeTest extends BaseSerializerTypeTest {
       .isEqualTo("D48775F05A07400000000000000000000000000055534400000000008B1CE810C13D6F337DAC85863B3D70265A24DF44");
   }
 
+  @Test
+  void iouAmountRoundTrip() {
+    String hex = "D48775F05A07400000000000000000000000000055534400000000008B1CE810C13D6F337DAC85863B3D70265A24DF44";
+    String issuer = "rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw";
+    IouAmount value = IouAmount.fromString("2.1");
+
+    assertThat(codec.fromIouAmount(value, "USD", issuer).toHex()).isEqualTo(hex);
+    assertThat(codec.fromIssuedCurrency("2.1", "USD", issuer).toHex()).isEqualTo(hex);
+    assertThat(codec.fromHex(hex).toIouAmount()).isEqualTo(value);
+    assertThat(codec.fromHex(hex).toIouAmount().toPlainString()).isEqualTo("2.1");
+
+    assertThrows(NullPointerException.class, () -> codec.fromIouAmount(null, "USD", issuer));
+    assertThrows(IllegalArgumentException.class, () -> codec.fromHex("4000000000000064").toIouAmount());
+  }
+
   @Test
   void decodeCurrencyAmount() {
     assertThat(
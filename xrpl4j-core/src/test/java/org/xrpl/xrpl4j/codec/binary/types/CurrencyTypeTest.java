@@ -22,8 +22,14 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Strings;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 class CurrencyTypeTest {
 
@@ -60,4 +66,37 @@ class CurrencyTypeTest {
       .isEqualTo(customCode);
   }
 
+  @Test
+  void decodedCurrenciesAreInterned() {
+    String hex = "0000000000000000000000005553440000000000";
+    CacheStats before = CurrencyType.cacheStats();
+
+    CurrencyType first = codec.fromParser(new BinaryParser(hex));
+    CurrencyType second = codec.fromParser(new BinaryParser(hex));
+    CurrencyType fromIso = codec.fromJson(new TextNode("USD"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(fromIso).isSameAs(first);
+    assertThat(first.toJson().asText()).isEqualTo("USD");
+    assertThat(codec.fromJson(DOUBLE_QUOTE + "EUR" + DOUBLE_QUOTE)).isNotSameAs(first);
+
+    CacheStats delta = CurrencyType.cacheStats().minus(before);
+    assertThat(delta.requestCount()).isEqualTo(4);
+    assertThat(delta.hitCount()).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void issuesDoNotModifyInternedCurrencies() throws JsonProcessingException {
+    String usd = "0000000000000000000000005553440000000000";
+    String issuer = "5E7B112523F68D2F5E879DB4EAC51C6698A69304";
+    ObjectNode issue = BinaryCodecObjectMapperFactory.getObjectMapper().createObjectNode()
+      .put("currency", "USD")
+      .put("issuer", "r9cZA1mLK5R5Am25ArfXFmqgNwjZgnfk59");
+    CurrencyType interned = codec.fromJson(new TextNode("USD"));
+
+    assertThat(new IssueType().fromJson(issue).toHex()).isEqualTo(usd + issuer);
+    assertThat(new IssueType().fromParser(new BinaryParser(usd + issuer)).toHex()).isEqualTo(usd + issuer);
+    assertThat(interned.toHex()).isEqualTo(usd);
+  }
+
 }
@@ -0,0 +1,141 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Strings;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link STObjectView}.
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+class STObjectViewTest {
+
+  private static final String PAYMENT_JSON =
+    "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+      "\"Sequence\":1,\"Flags\":2147614720,\"SourceTag\":1," +
+      "\"Amount\":{\"value\":\"1234567890123456\",\"currency\":\"USD\"," +
+      "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"}," +
+      "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\",\"DestinationTag\":2," +
+      "\"Memos\":[{\"Memo\":{\"MemoData\":\"" + Strings.repeat("AB", 300) + "\"}}]," +
+      "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"}";
+
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+
+  private static Stream<Arguments> codecFixtures() throws IOException {
+    return Stream.concat(
+      FixtureUtils.getCodecFixtures().transactions().stream(),
+      FixtureUtils.getCodecFixtures().accountState().stream()
+    ).map(Arguments::of);
+  }
+
+  @Test
+  void readIndividualFields() throws JsonProcessingException {
+    STObjectView view = STObjectView.of(BaseEncoding.base16().decode(codec.encode(PAYMENT_JSON)));
+
+    assertThat(view.fields().stream().map(FieldInstance::name).collect(Collectors.toList())).containsExactly(
+      "TransactionType", "Flags", "SourceTag", "Sequence", "DestinationTag", "Amount", "Fee", "SigningPubKey",
+      "Account", "Destination", "Memos"
+    );
+    assertThat(view.has("Account")).isTrue();
+    assertThat(view.has("TxnSignature")).isFalse();
+
+    assertThat(view.getJson("TransactionType").get().asText()).isEqualTo("Payment");
+    assertThat(view.getJson("Sequence").get().asLong()).isEqualTo(1);
+    assertThat(view.getJson("Account").get().asText()).isEqualTo("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK");
+    assertThat(view.getJson("Amount").get().get("currency").asText()).isEqualTo("USD");
+    assertThat(view.getJson("Memos").get().get(0).get("Memo").get("MemoData").asText())
+      .isEqualTo(Strings.repeat("AB", 300));
+    assertThat(view.getJson("TxnSignature")).isEmpty();
+
+    assertThat(view.getValue("Fee").get()).isInstanceOf(AmountType.class);
+    assertThat(view.getValue("Fee").get().toHex()).isEqualTo("4000000000000315");
+  }
+
+  @Test
+  void readNestedObjectWithoutCopying() throws JsonProcessingException {
+    String json = "{\"Memo\":{\"Memo\":{\"CloseResolution\":1,\"Method\":2}},\"Fee\":\"10\"}";
+    byte[] bytes = BaseEncoding.base16().decode("00" + codec.encode(json) + "00");
+    STObjectView view = STObjectView.of(bytes, 1, bytes.length - 2);
+
+    STObjectView outer = view.getObject("Memo").get();
+    STObjectView inner = outer.getObject("Memo").get();
+    assertThat(inner.getJson("Method").get().asInt()).isEqualTo(2);
+    assertThat(inner.getJson("CloseResolution").get().asInt()).isEqualTo(1);
+    assertThat(view.getJson("Fee").get().asText()).isEqualTo("10");
+
+    // Views share the underlying bytes rather than copying them.
+    bytes[bytes.length - 4] = 3;
+    assertThat(STObjectView.of(bytes, 1, bytes.length - 2).getObject("Memo").get().getObject("Memo").get()
+      .getJson("Method").get().asInt()).isEqualTo(3);
+
+    assertThat(view.getObject("NotPresent")).isEmpty();
+    assertThatThrownBy(() -> view.getObject("Fee"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Fee is not of type STObject");
+  }
+
+  @Test
+  void outOfBounds() {
+    assertThatThrownBy(() -> STObjectView.of(new byte[2], 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> STObjectView.of(new byte[2], -1, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    // A truncated field value is reported on first access, not when the view is created.
+    STObjectView truncated = STObjectView.of(UnsignedByteArray.fromHex("2400"));
+    assertThatThrownBy(() -> truncated.has("Sequence")).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void toJsonMatchesFullDecode(CodecFixture fixture) {
+    STObjectView view = STObjectView.of(BaseEncoding.base16().decode(fixture.binary()));
+    JsonNode expected = new STObjectType(UnsignedByteArray.fromHex(fixture.binary())).toJson();
+
+    assertThat(view.toJson()).isEqualTo(expected);
+    expected.fieldNames().forEachRemaining(fieldName ->
+      assertThat(view.getJson(fieldName)).hasValue(expected.get(fieldName))
+    );
+  }
+
+  @Test
+  void toJsonMatchesDecode() throws JsonProcessingException {
+    String hex = codec.encode(PAYMENT_JSON);
+    assertThat(STObjectView.of(UnsignedByteArray.fromHex(hex)).toJson().toString()).isEqualTo(codec.decode(hex));
+  }
+
+}
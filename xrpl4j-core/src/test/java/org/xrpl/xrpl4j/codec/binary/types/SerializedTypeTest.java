@@ -0,0 +1,82 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+/**
+ * Unit tests for the shared codec registry in {@link SerializedType}.
+ */
+class SerializedTypeTest {
+
+  @Test
+  void getTypeByNameReturnsSharedInstance() {
+    SerializedType<?> hash256 = SerializedType.getTypeByName("Hash256");
+    assertThat(hash256).isInstanceOf(Hash256Type.class);
+    assertThat(SerializedType.getTypeByName("Hash256")).isSameAs(hash256);
+    assertThat(SerializedType.getTypeByClass(Hash256Type.class)).isSameAs(hash256);
+    assertThat(SerializedType.getTypeByName("NotAType")).isNull();
+  }
+
+  @Test
+  void getTypeByOrdinalMatchesDefinitions() {
+    DefinitionsService definitionsService = DefinitionsService.getInstance();
+    for (String name : new String[] {"AccountID", "Amount", "Blob", "Hash256", "STArray", "STObject", "UInt32",
+      "UInt64", "Vector256", "Issue"}) {
+      int ordinal = definitionsService.getTypeOrdinal(name);
+      assertThat(SerializedType.getTypeByOrdinal(ordinal)).isSameAs(SerializedType.getTypeByName(name));
+    }
+
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(SerializedType.getTypeByOrdinal(fee.header().typeCode())).isInstanceOf(AmountType.class);
+    assertThat(SerializedType.getTypeByOrdinal(-1)).isNull();
+    assertThat(SerializedType.getTypeByOrdinal(10001)).isNull();
+  }
+
+  @Test
+  void getNameByType() {
+    assertThat(SerializedType.getNameByType(new AccountIdType())).isEqualTo("AccountID");
+    assertThat(SerializedType.getNameByType(SerializedType.getTypeByName("STObject"))).isEqualTo("STObject");
+    assertThat(SerializedType.getNameByType(new HopType())).isNull();
+  }
+
+  @Test
+  void sharedInstanceIsNotMutatedByParsing() {
+    UInt32Type codec = SerializedType.getTypeByClass(UInt32Type.class);
+    String defaultHex = codec.toHex();
+
+    UInt32Type parsed = new BinaryParser("0000000A").readType(UInt32Type.class);
+    UInt32Type fromJson = codec.fromJson(new TextNode("11"));
+
+    assertThat(parsed).isNotSameAs(codec);
+    assertThat(parsed.toHex()).isEqualTo("0000000A");
+    assertThat(fromJson.toHex()).isEqualTo("0000000B");
+    assertThat(codec.toHex()).isEqualTo(defaultHex);
+  }
+
+}
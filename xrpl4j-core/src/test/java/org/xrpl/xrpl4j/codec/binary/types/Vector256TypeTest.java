@@ -21,10 +21,21 @@ package org.xrpl.xrpl4j.codec.binary.types;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
 class Vector256TypeTest {
 
   public static final String VALUE1 =
@@ -46,4 +57,72 @@ class Vector256TypeTest {
     assertThat(codec.fromJson(JSON).toHex()).isEqualTo(HEX);
   }
 
+  @Test
+  void fromParserReadsPackedBytes() {
+    BinaryParser parser = new BinaryParser(HEX + "FF");
+    Vector256Type vector = codec.fromParser(parser, 64);
+    assertThat(vector.toHex()).isEqualTo(HEX);
+    assertThat(parser.readUInt8()).isEqualTo(0xFF);
+    assertThat(vector.toJson().toString()).isEqualTo(JSON);
+  }
+
+  @Test
+  void indexedAccess() {
+    Vector256Type vector = codec.fromJson(JSON);
+    assertThat(vector.size()).isEqualTo(2);
+    assertThat(vector.getHex(0)).isEqualTo(VALUE1);
+    assertThat(vector.getHex(1)).isEqualTo(VALUE2);
+    assertThat(vector.get(1).toHex()).isEqualTo(VALUE2);
+    assertThat(vector.toHexList()).containsExactly(VALUE1, VALUE2);
+    assertThatThrownBy(() -> vector.getHex(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> vector.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+
+    assertThat(codec.fromJson("[]").size()).isEqualTo(0);
+    assertThat(codec.fromJson("[]").toHexList()).isEmpty();
+  }
+
+  @Test
+  void accessReadsBackingRange() {
+    // A vector whose value is a view that does not start at the beginning of its backing array.
+    Vector256Type vector = new Vector256Type(UnsignedByteArray.fromHex("FF" + HEX + "FF").slice(1, 65));
+    assertThat(vector.size()).isEqualTo(2);
+    assertThat(vector.get(1).toHex()).isEqualTo(VALUE2);
+    assertThat(vector.toHexList()).containsExactly(VALUE1, VALUE2);
+    List<String> hashes = new ArrayList<>();
+    vector.entries().forEach(entry -> hashes.add(entry.hexValue()));
+    assertThat(hashes).containsExactly(VALUE1, VALUE2);
+  }
+
+  @Test
+  void entriesReuseFlyweight() {
+    Vector256Type vector = codec.fromJson(JSON);
+    List<String> hashes = new ArrayList<>();
+    Set<Vector256Type.Entry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+    char[] hex = new char[64];
+    byte[] bytes = new byte[32];
+    for (Vector256Type.Entry entry : vector.entries()) {
+      entries.add(entry);
+      assertThat(entry.writeHex(hex, 0)).isEqualTo(64);
+      entry.copyTo(bytes, 0);
+      assertThat(BaseEncoding.base16().encode(bytes)).isEqualTo(new String(hex));
+      hashes.add(entry.index() + ":" + entry.hexValue());
+    }
+    assertThat(hashes).containsExactly("0:" + VALUE1, "1:" + VALUE2);
+    assertThat(entries).hasSize(1);
+
+    Iterator<Vector256Type.Entry> iterator = codec.fromJson("[]").entries().iterator();
+    assertThat(iterator.hasNext()).isFalse();
+    assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void encodeUnpaddedAndInvalidHashes() {
+    // Hashes with an odd number of digits are left-padded, as Hash256Type does.
+    assertThat(codec.fromJson("[\"" + VALUE1.substring(1) + "\"]").toHex()).isEqualTo("0" + VALUE1.substring(1));
+    assertThatThrownBy(() -> codec.fromJson("[\"ABCD\"]")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> codec.fromJson("[1]"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("non-string value found in vector");
+  }
+
 }
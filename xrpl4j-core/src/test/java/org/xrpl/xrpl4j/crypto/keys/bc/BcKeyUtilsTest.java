@@ -28,6 +28,7 @@ import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.endo.GLVEndomorphism;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.Base58;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
@@ -114,6 +115,19 @@ class BcKeyUtilsTest {
     assertThat(converted).usingRecursiveComparison().isEqualTo(ecPublicKeyParameters);
   }
 
+  @Test
+  void toEcPublicKeyParametersIsCached() {
+    PublicKey publicKey = PublicKey.fromBase16EncodedPublicKey(EC_PUBLIC_KEY_HEX);
+    ECPublicKeyParameters first = BcKeyUtils.toEcPublicKeyParameters(publicKey);
+    long hits = BcKeyUtils.ecPublicKeyCacheStats().hitCount();
+
+    assertThat(BcKeyUtils.toEcPublicKeyParameters(PublicKey.fromBase16EncodedPublicKey(EC_PUBLIC_KEY_HEX)))
+      .isSameAs(first);
+    assertThat(BcKeyUtils.ecPublicKeyCacheStats().hitCount()).isEqualTo(hits + 1);
+    assertThat(first.getQ().isNormalized()).isTrue();
+    assertThat(first.getParameters().getCurve().getEndomorphism()).isInstanceOf(GLVEndomorphism.class);
+  }
+
   @Test
   void toPublicKeyEc() {
     ECPrivateKeyParameters ecPrivateKeyParameters = new ECPrivateKeyParameters(
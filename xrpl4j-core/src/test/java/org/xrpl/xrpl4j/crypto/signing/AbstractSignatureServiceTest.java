@@ -81,6 +81,7 @@ public class AbstractSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.addSignatureToTransaction(any(), any())).thenReturn(signedTransactionMock);
 
     this.signatureService = new AbstractSignatureService<PrivateKeyable>(signatureUtilsMock) {
@@ -323,7 +324,7 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -340,7 +341,7 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
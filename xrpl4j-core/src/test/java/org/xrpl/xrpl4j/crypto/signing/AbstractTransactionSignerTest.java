@@ -45,7 +45,14 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for {@link AbstractTransactionSigner}.
@@ -183,6 +190,110 @@ public class AbstractTransactionSignerTest {
     assertThat(actual).isEqualTo(secp256k1SignatureMock);
   }
 
+  ///////////////////
+  // Sign All
+  ///////////////////
+
+  @Test
+  void signAllWithNullKey() {
+    assertThrows(NullPointerException.class,
+      () -> transactionSigner.signAll(null, Collections.singletonList(transactionMock)));
+  }
+
+  @Test
+  void signAllIsolatesFailuresAndPreservesOrder() {
+    AtomicInteger derivations = new AtomicInteger();
+    final AbstractTransactionSigner<PrivateKeyable> countingSigner = new AbstractTransactionSigner<PrivateKeyable>(
+      signatureUtilsMock
+    ) {
+      @Override
+      protected Signature edDsaSign(PrivateKeyable privateKeyable, UnsignedByteArray signableTransactionBytes) {
+        return ed25519SignatureMock;
+      }
+
+      @Override
+      protected Signature ecDsaSign(PrivateKeyable privateKeyable, UnsignedByteArray signableTransactionBytes) {
+        return secp256k1SignatureMock;
+      }
+
+      @Override
+      public PublicKey derivePublicKey(PrivateKeyable privateKeyable) {
+        derivations.incrementAndGet();
+        return privateKeyable == privateKeyableMock ? ED_PUBLIC_KEY : EC_PUBLIC_KEY;
+      }
+    };
+
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Transaction transaction = mock(Transaction.class);
+      SingleSignedTransaction<Transaction> signedTransaction = mock(SingleSignedTransaction.class);
+      when(signedTransaction.unsignedTransaction()).thenReturn(transaction);
+      when(signatureUtilsMock.addSignatureToTransaction(Mockito.eq(transaction), any())).thenReturn(signedTransaction);
+      transactions.add(transaction);
+    }
+    IllegalArgumentException failure = new IllegalArgumentException("cannot encode");
+    when(signatureUtilsMock.toSignableBytes(transactions.get(42))).thenThrow(failure);
+
+    PrivateKeyable otherKey = mock(PrivateKeyable.class);
+    Map<PrivateKeyable, List<Transaction>> batch = new LinkedHashMap<>();
+    batch.put(otherKey, transactions.subList(50, 100));
+    batch.put(privateKeyableMock, transactions.subList(0, 50));
+
+    Map<PrivateKeyable, List<SigningResult<Transaction>>> results = countingSigner.signAll(batch);
+
+    assertThat(derivations).hasValue(2);
+    assertThat(results.keySet()).containsExactly(otherKey, privateKeyableMock);
+    for (Map.Entry<PrivateKeyable, List<SigningResult<Transaction>>> entry : results.entrySet()) {
+      List<Transaction> expected = batch.get(entry.getKey());
+      assertThat(entry.getValue()).hasSize(expected.size());
+      for (int i = 0; i < expected.size(); i++) {
+        SigningResult<Transaction> result = entry.getValue().get(i);
+        assertThat(result.unsignedTransaction()).isSameAs(expected.get(i));
+        if (expected.get(i) == transactions.get(42)) {
+          assertThat(result.isSuccess()).isFalse();
+          assertThat(result.error()).hasValue(failure);
+        } else {
+          assertThat(result.isSuccess()).isTrue();
+          assertThat(result.signedTransaction().get().unsignedTransaction()).isSameAs(expected.get(i));
+        }
+      }
+    }
+    verify(signatureUtilsMock).addSignatureToTransaction(transactions.get(0), ed25519SignatureMock);
+    verify(signatureUtilsMock).addSignatureToTransaction(transactions.get(99), secp256k1SignatureMock);
+  }
+
+  @Test
+  void signAllFailsEachTransactionOfKeyThatCannotBeDerived() {
+    AbstractTransactionSigner<PrivateKeyable> failingSigner = new AbstractTransactionSigner<PrivateKeyable>(
+      signatureUtilsMock
+    ) {
+      @Override
+      protected Signature edDsaSign(PrivateKeyable privateKeyable, UnsignedByteArray signableTransactionBytes) {
+        return ed25519SignatureMock;
+      }
+
+      @Override
+      protected Signature ecDsaSign(PrivateKeyable privateKeyable, UnsignedByteArray signableTransactionBytes) {
+        return secp256k1SignatureMock;
+      }
+
+      @Override
+      public PublicKey derivePublicKey(PrivateKeyable privateKeyable) {
+        throw new IllegalStateException("no such key");
+      }
+    };
+
+    List<SigningResult<Transaction>> results = failingSigner.signAll(
+      privateKeyableMock, Arrays.asList(transactionMock, transactionMock)
+    );
+
+    assertThat(results).hasSize(2).allSatisfy(result -> {
+      assertThat(result.isSuccess()).isFalse();
+      assertThat(result.error().get()).hasMessage("no such key");
+    });
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
   ///////////////////
   // MultiSign to Signature
   ///////////////////
@@ -36,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.TestConstants;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
@@ -79,9 +80,12 @@ public class AbstractTransactionVerifierTest {
 
     when(edPublicKeyMock.keyType()).thenReturn(KeyType.ED25519);
     when(ecPublicKeyMock.keyType()).thenReturn(KeyType.SECP256K1);
+    when(edPublicKeyMock.deriveAddress()).thenReturn(TestConstants.ED_ADDRESS);
+    when(ecPublicKeyMock.deriveAddress()).thenReturn(TestConstants.EC_ADDRESS);
 
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
 
     when(signer.signingPublicKey()).thenReturn(ED_PUBLIC_KEY);
     when(signer.transactionSignature()).thenReturn(ed25519SignatureMock);
@@ -178,7 +182,7 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -193,7 +197,7 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
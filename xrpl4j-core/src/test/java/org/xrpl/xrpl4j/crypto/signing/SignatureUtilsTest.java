@@ -25,9 +25,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -36,6 +38,7 @@ import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
@@ -43,7 +46,9 @@ import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionBinaryEncoder;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
@@ -93,6 +98,8 @@ import org.xrpl.xrpl4j.model.transactions.Transaction;
 import org.xrpl.xrpl4j.model.transactions.TrustSet;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -125,19 +132,30 @@ public class SignatureUtilsTest {
   @Mock
   XrplBinaryCodec xrplBinaryCodecMock;
 
+  @Mock
+  TransactionBinaryEncoder transactionEncoderMock;
+
   SignatureUtils signatureUtils;
 
   @BeforeEach
-  public void setUp() throws JsonProcessingException {
+  public void setUp() throws IOException {
     openMocks(this);
 
     this.sourcePublicKey = PublicKey.fromBase16EncodedPublicKey(HEX_PUBLIC_KEY);
 
     when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
-    when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
+    when(objectMapperMock.writeValueAsBytes(any())).thenReturn(new byte[0]); // <-- Unused JSON value.
+    when(objectMapperMock.readTree(any(byte[].class))).thenReturn(mock(JsonNode.class));
+    when(xrplBinaryCodecMock.encodeForSigning(any(JsonNode.class), any(UnsignedByteArray.class)))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeForMultiSigning(any(JsonNode.class), anyString(), any(UnsignedByteArray.class)))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeForMultiSigningWithoutSigner(any(JsonNode.class), any(UnsignedByteArray.class)))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
     when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
-    this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
+    when(transactionEncoderMock.encodeForSigning(any(Transaction.class), any(UnsignedByteArray.class)))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
+    this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock, transactionEncoderMock);
   }
 
   //////////////////
@@ -164,29 +182,28 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+  public void toSignableBytesWithJsonException() {
+    doThrow(new UncheckedIOException(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class))))
+      .when(transactionEncoderMock).encodeForSigning(any(Transaction.class), any(UnsignedByteArray.class));
     assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
   }
 
   @Test
   public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
     doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+      .when(objectMapperMock).writeValueAsBytes(any());
     assertThrows(RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, mock(Address.class)));
   }
 
   @Test
-  public void toSignableBytes() throws JsonProcessingException {
+  public void toSignableBytes() throws IOException {
     UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
-    verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
-    verifyNoMoreInteractions(xrplBinaryCodecMock);
+    verify(transactionEncoderMock).encodeForSigning(eq(transactionMock), any(UnsignedByteArray.class));
+    verifyNoMoreInteractions(transactionEncoderMock);
+    verifyNoInteractions(objectMapperMock, xrplBinaryCodecMock);
   }
 
   //////////////////
@@ -240,20 +257,52 @@ public class SignatureUtilsTest {
 
 
   @Test
-  public void toMultiSignableBytes() throws JsonProcessingException {
+  public void toMultiSignableBytes() throws IOException {
     UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress());
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).writeValueAsBytes(transactionMock);
+    verify(objectMapperMock).readTree(any(byte[].class));
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
+    verify(xrplBinaryCodecMock).encodeForMultiSigning(any(JsonNode.class), anyString(), any(UnsignedByteArray.class));
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
+  @Test
+  public void toMultiSignableBytesWithoutSigner() throws IOException {
+    UnsignedByteArray actual = signatureUtils.toMultiSignableBytesWithoutSigner(transactionMock);
+    assertThat(actual.length()).isEqualTo(1);
+
+    verify(objectMapperMock).writeValueAsBytes(transactionMock);
+    verify(objectMapperMock).readTree(any(byte[].class));
+    verifyNoMoreInteractions(objectMapperMock);
+    verify(xrplBinaryCodecMock).encodeForMultiSigningWithoutSigner(any(JsonNode.class), any(UnsignedByteArray.class));
+    verifyNoMoreInteractions(xrplBinaryCodecMock);
+  }
+
+  @Test
+  public void toMultiSignableBytesWithoutSignerMatchesToMultiSignableBytes() {
+    SignatureUtils realSignatureUtils = SignatureUtils.getInstance();
+    Payment payment = Payment.builder()
+      .account(sourcePublicKey.deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.ONE)
+      .destination(Address.of("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe"))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .signingPublicKey(sourcePublicKey)
+      .build();
+    Address signerAddress = Address.of("rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN");
+
+    assertThat(
+      realSignatureUtils.toMultiSignableBytesWithoutSigner(payment)
+        .append(AddressCodec.getInstance().decodeAccountId(signerAddress))
+    ).isEqualTo(realSignatureUtils.toMultiSignableBytes(payment, signerAddress));
+  }
+
   @Test
   public void toMultiSignableBytesWithJsonException() throws JsonProcessingException {
     doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+      .when(objectMapperMock).writeValueAsBytes(any());
     assertThrows(
       RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress())
@@ -1211,6 +1260,7 @@ public class SignatureUtilsTest {
   private void addSignatureToTransactionHelper(final Transaction transaction) {
     Objects.requireNonNull(transaction);
     when(signatureMock.base16Value()).thenReturn("ED");
+    when(signatureMock.value()).thenReturn(UnsignedByteArray.fromHex("ED"));
     SingleSignedTransaction<?> result = signatureUtils.addSignatureToTransaction(transaction, signatureMock);
     assertThat(result.unsignedTransaction()).isEqualTo(transaction);
     assertThat(result.signature().base16Value()).isEqualTo("ED");
@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.hash.Hashing;
@@ -41,6 +42,7 @@ import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.crypto.signing.SigningResult;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.flags.PaymentFlags;
@@ -54,7 +56,11 @@ import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -424,6 +430,105 @@ class BcDerivedKeySignatureServiceTest {
     assertThat(verified).isFalse();
   }
 
+  @Test
+  void signAllMatchesSign() {
+    final PrivateKeyReference edKey = privateKeyReference("foo", KeyType.ED25519);
+    final PrivateKeyReference ecKey = privateKeyReference("bar", KeyType.SECP256K1);
+    final PrivateKeyReference badKey = new PrivateKeyReference() {
+      @Override
+      public String keyIdentifier() {
+        throw new IllegalStateException("unavailable");
+      }
+
+      @Override
+      public KeyType keyType() {
+        return KeyType.ED25519;
+      }
+    };
+
+    final Map<PrivateKeyReference, List<Payment>> batch = new LinkedHashMap<>();
+    batch.put(edKey, payments(this.derivedKeySignatureService.derivePublicKey(edKey), 30));
+    batch.put(badKey, payments(this.derivedKeySignatureService.derivePublicKey(edKey), 2));
+    batch.put(ecKey, payments(this.derivedKeySignatureService.derivePublicKey(ecKey), 30));
+
+    final Map<PrivateKeyReference, List<SigningResult<Payment>>> results =
+      this.derivedKeySignatureService.signAll(batch);
+
+    assertThat(results.keySet()).containsExactly(edKey, badKey, ecKey);
+    for (PrivateKeyReference key : Arrays.asList(edKey, ecKey)) {
+      final List<Payment> payments = batch.get(key);
+      assertThat(results.get(key)).hasSize(payments.size());
+      for (int i = 0; i < payments.size(); i++) {
+        assertThat(results.get(key).get(i).signedTransaction())
+          .hasValue(this.derivedKeySignatureService.sign(key, payments.get(i)));
+      }
+    }
+    assertThat(results.get(badKey)).hasSize(2).allSatisfy(result -> {
+      assertThat(result.isSuccess()).isFalse();
+      assertThat(result.error().get()).hasMessage("unavailable");
+    });
+  }
+
+  @Test
+  void verifyAllMatchesVerify() {
+    final PrivateKeyReference edKey = privateKeyReference("foo", KeyType.ED25519);
+    final PrivateKeyReference ecKey = privateKeyReference("bar", KeyType.SECP256K1);
+
+    final Map<PrivateKeyReference, List<Payment>> batch = new LinkedHashMap<>();
+    batch.put(edKey, payments(this.derivedKeySignatureService.derivePublicKey(edKey), 30));
+    batch.put(ecKey, payments(this.derivedKeySignatureService.derivePublicKey(ecKey), 30));
+
+    final List<SingleSignedTransaction<Payment>> signed = new ArrayList<>();
+    this.derivedKeySignatureService.signAll(batch).values()
+      .forEach(results -> results.forEach(result -> signed.add(result.signedTransaction().get())));
+    // Swap the signatures of the first two transactions of each key so that both become invalid.
+    for (int offset : new int[] {0, 30}) {
+      final SingleSignedTransaction<Payment> first = signed.get(offset);
+      final SingleSignedTransaction<Payment> second = signed.get(offset + 1);
+      signed.set(offset, SingleSignedTransaction.<Payment>builder().from(first).signature(second.signature()).build());
+      signed.set(offset + 1, SingleSignedTransaction.<Payment>builder().from(second).signature(first.signature())
+        .build());
+    }
+
+    final List<Boolean> results = this.derivedKeySignatureService.verifyAll(signed);
+    assertThat(results).hasSize(signed.size());
+    for (int i = 0; i < signed.size(); i++) {
+      final boolean tampered = i == 0 || i == 1 || i == 30 || i == 31;
+      assertThat(results.get(i)).isEqualTo(!tampered);
+    }
+  }
+
+  @Test
+  void verifyAllPropagatesVerificationFailure() {
+    final PrivateKeyReference ecKey = privateKeyReference("bar", KeyType.SECP256K1);
+    final List<SingleSignedTransaction<Payment>> signed = new ArrayList<>();
+    this.derivedKeySignatureService.signAll(
+      Collections.singletonMap(ecKey, payments(this.derivedKeySignatureService.derivePublicKey(ecKey), 2))
+    ).get(ecKey).forEach(result -> signed.add(result.signedTransaction().get()));
+
+    // An x-coordinate larger than the field prime is not a valid compressed secp256k1 point.
+    final PublicKey malformedKey = PublicKey.fromBase16EncodedPublicKey("03" + Strings.repeat("FF", 32));
+    final SingleSignedTransaction<Payment> malformed = SingleSignedTransaction.<Payment>builder()
+      .from(signed.get(1))
+      .unsignedTransaction(Payment.builder().from(signed.get(1).unsignedTransaction())
+        .signingPublicKey(malformedKey)
+        .build())
+      .build();
+    signed.set(1, malformed);
+
+    final Signer signer = Signer.builder()
+      .signingPublicKey(malformedKey)
+      .transactionSignature(malformed.signature())
+      .build();
+    final RuntimeException expected = assertThrows(
+      RuntimeException.class, () -> this.derivedKeySignatureService.verify(signer, malformed.unsignedTransaction())
+    );
+    final RuntimeException actual = assertThrows(
+      RuntimeException.class, () -> this.derivedKeySignatureService.verifyAll(signed)
+    );
+    assertThat(actual).isInstanceOf(expected.getClass()).hasMessage(expected.getMessage());
+  }
+
   @Test
   void getPublicKeyEd() {
     PublicKey actualEcPublicKey = this.derivedKeySignatureService.derivePublicKey(
@@ -593,6 +698,21 @@ class BcDerivedKeySignatureServiceTest {
    *
    * @return A {@link PrivateKeyReference}.
    */
+  private List<Payment> payments(final PublicKey publicKey, final int count) {
+    final List<Payment> payments = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      payments.add(Payment.builder()
+        .account(publicKey.deriveAddress())
+        .fee(XrpCurrencyAmount.ofDrops(10L))
+        .sequence(UnsignedInteger.valueOf(i + 1))
+        .destination(Address.of(destinationClassicAddress))
+        .amount(XrpCurrencyAmount.ofDrops(12345))
+        .signingPublicKey(publicKey)
+        .build());
+    }
+    return payments;
+  }
+
   private PrivateKeyReference privateKeyReference(final String keyIdentifier, final KeyType keyType) {
     Objects.requireNonNull(keyIdentifier);
     Objects.requireNonNull(keyType);
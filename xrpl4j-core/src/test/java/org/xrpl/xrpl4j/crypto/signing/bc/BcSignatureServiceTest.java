@@ -53,6 +53,12 @@ import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Unit tests for {@link BcSignatureService}.
@@ -95,6 +101,7 @@ class BcSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.addSignatureToTransaction(Mockito.<AccountSet>any(), any())).thenReturn(
       signedTransactionMock);
 
@@ -132,6 +139,57 @@ class BcSignatureServiceTest {
     assertThrows(NullPointerException.class, () -> new BcSignatureService(signatureUtilsMock, ed25519SignerMock, null));
   }
 
+  @Test
+  void supplierConstructorWithNulls() {
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(null, Ed25519Signer::new, () -> ecdsaSignerMock));
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(signatureUtilsMock, (Supplier<Ed25519Signer>) null, () -> ecdsaSignerMock));
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(signatureUtilsMock, Ed25519Signer::new, (Supplier<ECDSASigner>) null));
+  }
+
+  @Test
+  void signAndVerifyFromManyThreads() throws Exception {
+    BcSignatureService signatureService = new BcSignatureService();
+    List<UnsignedByteArray> messages = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      messages.add(UnsignedByteArray.of(new byte[] {(byte) i, (byte) (i * 7), 42}));
+    }
+
+    // Both signature schemes are deterministic, so signatures made concurrently must equal those made on one thread.
+    List<Signature> expectedEd25519 = new ArrayList<>();
+    List<Signature> expectedSecp256k1 = new ArrayList<>();
+    for (UnsignedByteArray message : messages) {
+      expectedEd25519.add(signatureService.edDsaSign(ed25519KeyPair.privateKey(), message));
+      expectedSecp256k1.add(signatureService.ecDsaSign(secp256k1KeyPair.privateKey(), message));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int round = 0; round < 8; round++) {
+        for (int i = 0; i < messages.size(); i++) {
+          final int index = i;
+          results.add(executor.submit(() -> {
+            UnsignedByteArray message = messages.get(index);
+            Signature ed25519Signature = signatureService.edDsaSign(ed25519KeyPair.privateKey(), message);
+            Signature secp256k1Signature = signatureService.ecDsaSign(secp256k1KeyPair.privateKey(), message);
+            return ed25519Signature.equals(expectedEd25519.get(index)) &&
+              secp256k1Signature.equals(expectedSecp256k1.get(index)) &&
+              signatureService.edDsaVerify(ed25519KeyPair.publicKey(), message, ed25519Signature) &&
+              signatureService.ecDsaVerify(secp256k1KeyPair.publicKey(), message, secp256k1Signature);
+          }));
+        }
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   ///////////////////
   // Sign
   ///////////////////
@@ -319,7 +377,7 @@ class BcSignatureServiceTest {
     verifyNoMoreInteractions(ed25519SignerMock);
     verifyNoMoreInteractions(secp256k1SignatureMock);
 
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -340,7 +398,7 @@ class BcSignatureServiceTest {
     assertThat(actual).isTrue();
     verify(ecdsaSignerMock).init(anyBoolean(), any());
     verify(ecdsaSignerMock).verifySignature(any(), any(), any());
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(any());
 
     verify(secp256k1SignatureMock).value();
     verifyNoMoreInteractions(secp256k1SignatureMock);
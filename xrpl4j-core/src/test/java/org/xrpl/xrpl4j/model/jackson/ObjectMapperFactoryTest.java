@@ -0,0 +1,79 @@
+package org.xrpl.xrpl4j.model.jackson;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Unit tests for {@link ObjectMapperFactory}.
+ */
+class ObjectMapperFactoryTest {
+
+  @Test
+  void sharedReaderAndWriterMatchCreatedMapper() throws JsonProcessingException {
+    assertThat(ObjectMapperFactory.reader()).isSameAs(ObjectMapperFactory.reader());
+    assertThat(ObjectMapperFactory.writer()).isSameAs(ObjectMapperFactory.writer());
+
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .build();
+
+    ObjectMapper objectMapper = ObjectMapperFactory.create();
+    String json = ObjectMapperFactory.writer().writeValueAsString(payment);
+    assertThat(json).isEqualTo(objectMapper.writeValueAsString(payment));
+
+    JsonNode node = ObjectMapperFactory.reader().readTree(json);
+    assertThat(ObjectMapperFactory.reader().treeToValue(node, Payment.class)).isEqualTo(payment);
+  }
+
+  @Test
+  void sharedMapperIsSharedAndMatchesCreatedMapper() throws JsonProcessingException {
+    assertThat(ObjectMapperFactory.getObjectMapper()).isSameAs(ObjectMapperFactory.getObjectMapper());
+
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .build();
+
+    String json = ObjectMapperFactory.getObjectMapper().writeValueAsString(payment);
+    assertThat(json).isEqualTo(ObjectMapperFactory.create().writeValueAsString(payment));
+    assertThat(json).isEqualTo(ObjectMapperFactory.writer().writeValueAsString(payment));
+    assertThat(ObjectMapperFactory.getObjectMapper().readValue(json, Payment.class)).isEqualTo(payment);
+  }
+
+}
@@ -30,6 +30,7 @@ import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.math.IouAmount;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 
 import java.nio.charset.StandardCharsets;
@@ -215,6 +216,43 @@ public class CurrencyAmountTest {
     );
   }
 
+  @Test
+  void issuedCurrencyIouValue() throws JsonProcessingException {
+    IssuedCurrencyAmount amount = IssuedCurrencyAmount.builder()
+      .issuer(Address.of("rPx8CtHbTkjYbQzrwfDxXfPfLHV9nbjYBz"))
+      .currency("USD")
+      .value("1.25e2")
+      .build();
+
+    IouAmount value = amount.iouValue();
+    assertThat(value).isEqualTo(IouAmount.fromString("125"));
+
+    IssuedCurrencyAmount doubled = IssuedCurrencyAmount.builder()
+      .from(amount)
+      .value(value.add(value).toPlainString())
+      .build();
+    assertThat(doubled.value()).isEqualTo("250");
+    assertThat(doubled.iouValue()).isEqualTo(IouAmount.fromString("250"));
+
+    // The derived value is not part of the JSON representation.
+    assertThat(ObjectMapperFactory.create().writeValueAsString(amount)).doesNotContain("iouValue");
+  }
+
+  @Test
+  void issuedCurrencyFromIouAmount() {
+    IouAmount value = IouAmount.fromString("1.25e2");
+    Address issuer = Address.of("rPx8CtHbTkjYbQzrwfDxXfPfLHV9nbjYBz");
+    IssuedCurrencyAmount amount = IssuedCurrencyAmount.of(value, "USD", issuer);
+
+    assertThat(amount).isEqualTo(IssuedCurrencyAmount.builder()
+      .issuer(issuer)
+      .currency("USD")
+      .value("125")
+      .build());
+    assertThat(amount.iouValue()).isEqualTo(value);
+    assertThat(IssuedCurrencyAmount.of(IouAmount.ZERO, "USD", amount.issuer()).iouValue()).isEqualTo(IouAmount.ZERO);
+  }
+
   @Test
   void testConstants() {
     assertThat(CurrencyAmount.ONE_XRP_IN_DROPS).isEqualTo(1_000_000L);